@@ -0,0 +1,85 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * A simple automated player used for simulations.
+ * It attacks while there is time, waits for the dodge window, dodges with a
+ * configurable chance of picking a safe direction and heals when HP runs low.
+ * Against several enemies it attacks one until it falls, then the next by index.
+ */
+public class AutoPlayerController implements PlayerController {
+    private RandomGenerator random; // Source of dodge mistakes
+    private double dodgeSkill; // Chance of picking a safe dodge direction
+    private double healBelow; // Fraction of starting HP below which the player heals
+    private int topHp; // HP at the start of the fight
+    private int target; // Enemy being attacked; enemies before it have all been slain
+
+    /**
+     * Creates an automated player.
+     *
+     * @param random Random number generator for dodge mistakes.
+     * @param dodgeSkill Chance (0 to 1) of dodging in a safe direction.
+     * @param healBelow Fraction (0 to 1) of starting HP below which the player heals.
+     */
+    public AutoPlayerController(RandomGenerator random, double dodgeSkill, double healBelow) {
+        this.random = random;
+        this.dodgeSkill = dodgeSkill;
+        this.healBelow = healBelow;
+    }
+
+    @Override
+    public int chooseAction(Player player, Enemies enemies, int enemy, int attack, int timeLeft) {
+        if (topHp == 0) topHp = player.getHp();
+        if (player.getHp() < topHp * healBelow && player.getHealingTotal() > 0) {
+            return 3;
+        }
+        if (attack < 0) {
+            return 1; // Cool-downs are free time to attack
+        }
+        if (timeLeft <= 2) {
+            return 2;
+        }
+        if (player.getAttackTime(bestAttack(player)) <= timeLeft - 2) {
+            return 1;
+        }
+        return 4;
+    }
+
+    @Override
+    public int chooseAttack(Player player, Enemies enemies) {
+        return bestAttack(player);
+    }
+
+    @Override
+    public int chooseTarget(Player player, Enemies enemies) {
+        while (enemies.isSlain(target)) target++;
+        return target;
+    }
+
+    @Override
+    public int chooseDodge(Enemies enemies, int enemy, int attack) {
+        if (attack >= 0 && random.nextDouble() < dodgeSkill) {
+            return enemies.getComboTable(enemy).safeDirection(attack);
+        }
+        return random.nextInt(4) + 1;
+    }
+
+    @Override
+    public int chooseHealTarget(Player player) {
+        return 1;
+    }
+
+    @Override
+    public int chooseWaitTime(int attack, int timeLeft) {
+        return Math.max(1, timeLeft - 2);
+    }
+
+    /**
+     * Picks the special attack while there is focus for it, otherwise the light attack.
+     *
+     * @param player The player attacking.
+     * @return The attack type.
+     */
+    private int bestAttack(Player player) {
+        return player.getFp() >= 50 ? 3 : 1;
+    }
+}
@@ -0,0 +1,146 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Plays whole games from scripts instead of a keyboard, for smoke testing the full flow.
+ *
+ * A script holds what a player would type, one answer per line, without the Enter presses
+ * that only move the story along: a scripted console never waits after speak() and never
+ * clears the screen. Fight seeds come from a fixed seed, so a script that wins its fights
+ * wins them every time. Each game runs on its own thread with its own console, so many
+ * scripts run side by side in one JVM.
+ */
+public class BatchRunner {
+
+    /**
+     * How one scripted game went.
+     */
+    public static class Outcome {
+        private final String script; // The script's name
+        private final String problem; // Why the game stopped early, or null if it reached the ending
+        private final long millis; // Time the game took
+
+        Outcome(String script, String problem, long millis) {
+            this.script = script;
+            this.problem = problem;
+            this.millis = millis;
+        }
+
+        public String getScript() {
+            return script;
+        }
+
+        public String getProblem() {
+            return problem;
+        }
+
+        public boolean isFinished() {
+            return problem == null;
+        }
+
+        @Override
+        public String toString() {
+            return script + ": " + (problem == null ? "finished" : problem) + " in " + millis + "ms";
+        }
+    }
+
+    /**
+     * Plays one game from a script on the current thread. Lost fights are not saved.
+     *
+     * @param script The player's input.
+     * @param transcript Where the game's text goes.
+     * @param seed The seed all fight seeds are drawn from.
+     * @return Why the game stopped before the ending, or null if it reached the ending.
+     */
+    public static String play(InputStream script, OutputStream transcript, long seed) {
+        Console console = new Console(script, transcript, true);
+        Console.set(console);
+        try {
+            Main.play(new SplittableRandom(seed), null);
+            return null;
+        } catch (InputMismatchException e) {
+            return "script has a word where a number was expected";
+        } catch (NoSuchElementException e) {
+            return "script ran out of input";
+        } catch (RuntimeException e) {
+            return "game failed: " + e;
+        } finally {
+            console.flush();
+            Console.set(null);
+        }
+    }
+
+    /**
+     * Plays one game from a script file, writing its transcript next to the other transcripts.
+     */
+    private static Outcome play(String script, Path transcripts, long seed) throws IOException {
+        String name = script.equals("-") ? "stdin" : Paths.get(script).getFileName().toString();
+        long start = System.nanoTime();
+        try (InputStream in = script.equals("-") ? System.in : Files.newInputStream(Paths.get(script));
+             OutputStream out = transcripts == null ? OutputStream.nullOutputStream()
+                     : Files.newOutputStream(transcripts.resolve(name + ".txt"))) {
+            String problem = play(in, out, seed);
+            return new Outcome(name, problem, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Plays every script on all cores and reports each game as it ends.
+     *
+     * @param args Optional --seed n and --transcripts directory, then script files, or - for standard input.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        long seed = 0;
+        Path transcripts = null;
+        List<String> scripts = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--seed")) {
+                seed = Long.parseLong(args[++i]);
+            } else if (args[i].equals("--transcripts")) {
+                transcripts = Paths.get(args[++i]);
+                Files.createDirectories(transcripts);
+            } else {
+                scripts.add(args[i]);
+            }
+        }
+        if (scripts.isEmpty()) {
+            System.out.println("Usage: java BatchRunner [--seed n] [--transcripts directory] script... (- for standard input)");
+            return;
+        }
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(scripts.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorCompletionService<Outcome> games = new ExecutorCompletionService<>(pool);
+        for (String script : scripts) {
+            long gameSeed = seed;
+            Path directory = transcripts;
+            games.submit(() -> play(script, directory, gameSeed));
+        }
+
+        int finished = 0;
+        for (int i = 0; i < scripts.size(); i++) {
+            try {
+                Outcome outcome = games.take().get();
+                if (outcome.isFinished()) finished++;
+                System.out.println(outcome);
+            } catch (ExecutionException e) {
+                System.out.println("Could not read a script: " + e.getCause().getMessage());
+            }
+        }
+        pool.shutdown();
+        System.out.printf("%d of %d scripts finished in %dms%n", finished, scripts.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
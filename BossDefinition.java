@@ -0,0 +1,93 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The static content of a boss as loaded from the boss pack: health, runes,
+ * dialogue lines and the attack combos for both phases.
+ * A definition never changes once created, so a single instance is shared by every Boss
+ * created from it, on any thread. The combo table's arrays must only be read.
+ */
+public final class BossDefinition {
+    private final String name; // Name used to look the boss up
+    private final int hp; // Health points at the start of a fight
+    private final int runes; // Number of runes dropped by the boss
+    private final String winLine; // Dialogue line when the boss wins
+    private final String phaseLine; // Dialogue line for the phase change
+    private final String deathLine; // Dialogue line when the boss dies
+    private final List<Combo> combos1; // Combos available in phase 1
+    private final List<Combo> combos2; // Combos available in phase 2
+    private final ComboTable comboTable; // Both phases' combos flattened for the combat loop
+
+    /**
+     * Creates a boss definition. The combos are copied, so later changes to the lists passed in have no effect.
+     *
+     * @param name The boss name.
+     * @param hp The starting health points.
+     * @param runes The number of runes dropped on defeat.
+     * @param winLine The dialogue line when the boss wins.
+     * @param phaseLine The dialogue line for the phase change.
+     * @param deathLine The dialogue line when the boss dies.
+     * @param combos1 The combos available in phase 1.
+     * @param combos2 The combos available in phase 2.
+     */
+    public BossDefinition(String name, int hp, int runes, String winLine, String phaseLine, String deathLine,
+                          List<Combo> combos1, List<Combo> combos2) {
+        this.name = name;
+        this.hp = hp;
+        this.runes = runes;
+        this.winLine = winLine;
+        this.phaseLine = phaseLine;
+        this.deathLine = deathLine;
+        this.combos1 = freeze(combos1);
+        this.combos2 = freeze(combos2);
+        this.comboTable = new ComboTable(this.combos1, this.combos2);
+    }
+
+    /**
+     * Copies combos into unmodifiable lists of combos with unmodifiable attack lists.
+     */
+    private static List<Combo> freeze(List<Combo> combos) {
+        List<Combo> frozen = new ArrayList<>(combos.size());
+        for (Combo combo : combos) {
+            frozen.add(new Combo(List.copyOf(combo.getAttacks()), combo.getWeight(), combo.getBossNear(),
+                    combo.getPlayerMid(), combo.getPlayerLow()));
+        }
+        return List.copyOf(frozen);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getHp() {
+        return hp;
+    }
+
+    public int getRunes() {
+        return runes;
+    }
+
+    public String getWinLine() {
+        return winLine;
+    }
+
+    public String getPhaseLine() {
+        return phaseLine;
+    }
+
+    public String getDeathLine() {
+        return deathLine;
+    }
+
+    public List<Combo> getCombos1() {
+        return combos1;
+    }
+
+    public List<Combo> getCombos2() {
+        return combos2;
+    }
+
+    public ComboTable getComboTable() {
+        return comboTable;
+    }
+}
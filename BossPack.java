@@ -0,0 +1,190 @@
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Loads boss definitions from the binary boss pack.
+ * The pack is read once on first use, but each boss is only decoded the first
+ * time it is asked for. If the pack is missing or older than the data files,
+ * the data files are compiled in memory instead.
+ */
+public class BossPack {
+    public static final Path SOURCES = Paths.get("data", "bosses"); // Boss data files
+    public static final Path PACK = Paths.get("data", "bosses.pack"); // Compiled pack
+
+    private byte[] bytes; // The whole pack
+    private int recordsStart; // Offset of the first boss record
+    private Map<String, int[]> index; // Boss name to {offset, length} of its record
+    private Map<String, BossDefinition> loaded; // Bosses decoded so far
+
+    /**
+     * Holds the shared pack so it is only read when a boss is first needed.
+     */
+    private static class Holder {
+        static final BossPack PACK = open();
+    }
+
+    /**
+     * Reads a pack from its bytes.
+     *
+     * @param bytes The pack contents.
+     * @throws IOException If the bytes are not a valid pack.
+     */
+    public BossPack(byte[] bytes) throws IOException {
+        this.bytes = bytes;
+        this.index = new LinkedHashMap<>();
+        this.loaded = new ConcurrentHashMap<>();
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != BossPackCompiler.MAGIC) {
+            throw new IOException("Not a boss pack");
+        }
+        short version = in.readShort();
+        if (version != BossPackCompiler.VERSION) {
+            throw new IOException("Unsupported boss pack version " + version);
+        }
+        int count = in.readShort();
+        for (int i = 0; i < count; i++) {
+            String name = in.readUTF();
+            index.put(name, new int[]{in.readInt(), in.readInt()});
+        }
+        this.recordsStart = bytes.length - in.available();
+    }
+
+    /**
+     * Gets the shared pack, reading it on first use.
+     *
+     * @return The boss pack.
+     */
+    public static BossPack get() {
+        return Holder.PACK;
+    }
+
+    /**
+     * Gets the definition of a boss from the shared pack.
+     *
+     * @param name The boss name, e.g. "Margit".
+     * @return The boss definition.
+     */
+    public static BossDefinition load(String name) {
+        return get().definition(name);
+    }
+
+    /**
+     * Gets the names of all bosses in the pack.
+     *
+     * @return The boss names in pack order.
+     */
+    public List<String> names() {
+        return new ArrayList<>(index.keySet());
+    }
+
+    /**
+     * Gets the definition of a boss, decoding it on first use.
+     *
+     * @param name The boss name.
+     * @return The boss definition.
+     * @throws IllegalArgumentException If the pack has no boss with that name.
+     */
+    public BossDefinition definition(String name) {
+        BossDefinition definition = loaded.get(name);
+        if (definition == null) {
+            definition = loaded.computeIfAbsent(name, this::decode);
+        }
+        return definition;
+    }
+
+    private BossDefinition decode(String name) {
+        int[] entry = index.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown boss: " + name);
+        }
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, recordsStart + entry[0], entry[1]));
+            int hp = in.readInt();
+            int runes = in.readInt();
+            String winLine = in.readUTF();
+            String phaseLine = in.readUTF();
+            String deathLine = in.readUTF();
+            List<Combo> combos1 = readCombos(in);
+            List<Combo> combos2 = readCombos(in);
+            return new BossDefinition(name, hp, runes, winLine, phaseLine, deathLine, combos1, combos2);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt boss pack record for " + name, e);
+        }
+    }
+
+    private static List<Combo> readCombos(DataInputStream in) throws IOException {
+        int comboCount = in.readShort();
+        List<Combo> combos = new ArrayList<>(comboCount);
+        for (int c = 0; c < comboCount; c++) {
+            double weight = in.readDouble();
+            double bossNear = in.readDouble();
+            double playerMid = in.readDouble();
+            double playerLow = in.readDouble();
+            int attackCount = in.readShort();
+            List<Attack> attacks = new ArrayList<>(attackCount);
+            for (int a = 0; a < attackCount; a++) {
+                int chargeUp = in.readShort();
+                int coolDown = in.readShort();
+                int[] directions = {in.readByte(), in.readByte()};
+                int damage = in.readInt();
+                attacks.add(new Attack(in.readUTF(), chargeUp, coolDown, directions, damage));
+            }
+            combos.add(new Combo(attacks, weight, bossNear, playerMid, playerLow));
+        }
+        return combos;
+    }
+
+    /**
+     * Reads the pack file, or compiles the data files if the pack is missing, stale or from another version.
+     */
+    private static BossPack open() {
+        try {
+            if (Files.exists(PACK) && !isStale()) {
+                try (FileChannel channel = FileChannel.open(PACK, StandardOpenOption.READ)) {
+                    ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+                    while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                        // Keep reading until the whole pack is in memory
+                    }
+                    try {
+                        return new BossPack(buffer.array());
+                    } catch (IOException e) {
+                        if (!Files.isDirectory(SOURCES)) throw e;
+                        // Written by an older compiler; rebuild it from the data files below
+                    }
+                }
+            }
+            return new BossPack(BossPackCompiler.compile(SOURCES));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load bosses from " + PACK + " or " + SOURCES, e);
+        }
+    }
+
+    private static boolean isStale() throws IOException {
+        if (!Files.isDirectory(SOURCES)) return false;
+        long packTime = Files.getLastModifiedTime(PACK).toMillis();
+        try (Stream<Path> files = Files.list(SOURCES)) {
+            return files.anyMatch(file -> {
+                try {
+                    return Files.getLastModifiedTime(file).toMillis() > packTime;
+                } catch (IOException e) {
+                    return true;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,286 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compiles the boss data files into the binary boss pack read by BossPack.
+ *
+ * Each boss is a text file ending in ".boss". Blank lines and lines starting with '#' are ignored.
+ * <pre>
+ * name: Margit
+ * hp: 4174
+ * runes: 15
+ * winLine: Put these foolish ambitions to rest.
+ * phaseLine: ...
+ * deathLine: ...
+ *
+ * [phase 1]
+ * combo weight=2 bossNear=3 playerLow=0.5
+ * attack: 1 0 2 3 80 Margit slowly raises his sword upwards..\n
+ * </pre>
+ * A combo line may set the combo's weight (default 1) and the factors it is multiplied by while
+ * the boss is near its phase change or death (bossNear), while the player is under two thirds
+ * of their HP (playerMid) and while the player is under a third (playerLow), all default 1.
+ * The boss picks among a phase's combos in proportion to their weights, so in every situation
+ * some combo of each phase must have a weight above 0.
+ * An attack lists its charge-up time, cool-down time, the two safe dodge directions (0 Forward,
+ * 1 Backward, 2 Right, 3 Left), its damage and the text shown while it charges. "\n" in text
+ * is a line break. Bosses are packed in file name order.
+ *
+ * Pack layout: magic, version, boss count, then an index of (name, offset, length) entries
+ * followed by one record per boss, so a single boss can be decoded without reading the others.
+ */
+public class BossPackCompiler {
+    static final int MAGIC = 0x45524250; // "ERBP"
+    static final short VERSION = 2;
+
+    /**
+     * Compiles every boss file in a directory into pack bytes.
+     *
+     * @param sources The directory holding the ".boss" files.
+     * @return The compiled pack.
+     * @throws IOException If a file cannot be read.
+     * @throws IllegalArgumentException If a file is malformed.
+     */
+    public static byte[] compile(Path sources) throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(sources)) {
+            files = list.filter(file -> file.toString().endsWith(".boss")).sorted().collect(Collectors.toList());
+        }
+
+        List<String> names = new ArrayList<>();
+        List<byte[]> records = new ArrayList<>();
+        for (Path file : files) {
+            BossDefinition definition = parse(file);
+            if (names.contains(definition.getName())) {
+                throw new IllegalArgumentException(file + ": duplicate boss " + definition.getName());
+            }
+            names.add(definition.getName());
+            records.add(encode(definition));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(names.size());
+        int offset = 0;
+        for (int i = 0; i < names.size(); i++) {
+            out.writeUTF(names.get(i));
+            out.writeInt(offset);
+            out.writeInt(records.get(i).length);
+            offset += records.get(i).length;
+        }
+        for (byte[] record : records) {
+            out.write(record);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Parses one boss file.
+     *
+     * @param file The ".boss" file.
+     * @return The boss definition.
+     * @throws IOException If the file cannot be read.
+     * @throws IllegalArgumentException If the file is malformed.
+     */
+    public static BossDefinition parse(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        String name = null;
+        String winLine = null;
+        String phaseLine = null;
+        String deathLine = null;
+        int hp = -1;
+        int runes = -1;
+        List<List<Combo>> phases = new ArrayList<>();
+        List<Attack> combo = null;
+
+        for (int number = 1; number <= lines.size(); number++) {
+            String line = lines.get(number - 1).trim();
+            String where = file + ":" + number + ": ";
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            if (line.startsWith("[phase ")) {
+                int phase = Integer.parseInt(line.substring(7, line.length() - 1).trim());
+                if (phase != phases.size() + 1 || phase > 2) {
+                    throw new IllegalArgumentException(where + "expected [phase " + (phases.size() + 1) + "]");
+                }
+                phases.add(new ArrayList<>());
+                combo = null;
+            } else if (line.equals("combo") || line.startsWith("combo ")) {
+                if (phases.isEmpty()) {
+                    throw new IllegalArgumentException(where + "combo outside a [phase] section");
+                }
+                combo = new ArrayList<>();
+                phases.get(phases.size() - 1).add(parseCombo(line.substring(5).trim(), combo, where));
+            } else if (line.startsWith("attack:")) {
+                if (combo == null) {
+                    throw new IllegalArgumentException(where + "attack outside a combo");
+                }
+                combo.add(parseAttack(line.substring(7).trim(), where));
+            } else {
+                int colon = line.indexOf(':');
+                if (colon < 0) {
+                    throw new IllegalArgumentException(where + "expected key: value");
+                }
+                String key = line.substring(0, colon).trim();
+                String value = line.substring(colon + 1).trim();
+                switch (key) {
+                    case "name": name = value; break;
+                    case "hp": hp = parseNumber(value, where); break;
+                    case "runes": runes = parseNumber(value, where); break;
+                    case "winLine": winLine = unescape(value); break;
+                    case "phaseLine": phaseLine = unescape(value); break;
+                    case "deathLine": deathLine = unescape(value); break;
+                    default: throw new IllegalArgumentException(where + "unknown key " + key);
+                }
+            }
+        }
+
+        if (name == null || hp <= 0 || runes < 0 || winLine == null || phaseLine == null || deathLine == null) {
+            throw new IllegalArgumentException(file + ": name, hp, runes, winLine, phaseLine and deathLine are required");
+        }
+        if (phases.size() != 2 || phases.get(0).isEmpty() || phases.get(1).isEmpty()) {
+            throw new IllegalArgumentException(file + ": both phases need at least one combo");
+        }
+        for (int phase = 1; phase <= 2; phase++) {
+            for (Combo c : phases.get(phase - 1)) {
+                if (c.getAttacks().isEmpty()) {
+                    throw new IllegalArgumentException(file + ": empty combo");
+                }
+            }
+            for (int situation = 0; situation < ComboTable.SITUATIONS; situation++) {
+                double total = 0;
+                for (Combo c : phases.get(phase - 1)) total += c.getWeight(situation / 3 == 1, situation % 3);
+                if (!(total > 0)) {
+                    throw new IllegalArgumentException(file + ": every combo of phase " + phase + " has weight 0 "
+                            + (situation / 3 == 1 ? "while the boss is near " + (phase == 1 ? "its phase change" : "death") : "")
+                            + (situation / 3 == 1 && situation % 3 > 0 ? " and " : "")
+                            + (situation % 3 == 1 ? "while the player is under two thirds of their HP" : "")
+                            + (situation % 3 == 2 ? "while the player is under a third of their HP" : "")
+                            + (situation == 0 ? "at the start of the fight" : ""));
+                }
+            }
+        }
+        return new BossDefinition(name, hp, runes, winLine, phaseLine, deathLine, phases.get(0), phases.get(1));
+    }
+
+    private static Combo parseCombo(String text, List<Attack> attacks, String where) {
+        double[] weights = {1, 1, 1, 1}; // weight, bossNear, playerMid, playerLow
+        for (String setting : text.isEmpty() ? new String[0] : text.split("\\s+")) {
+            int equals = setting.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException(where + "expected key=value, got " + setting);
+            }
+            String key = setting.substring(0, equals);
+            double value;
+            try {
+                value = Double.parseDouble(setting.substring(equals + 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(where + "expected a number, got " + setting);
+            }
+            if (!(value >= 0) || Double.isInfinite(value)) {
+                throw new IllegalArgumentException(where + "weights must be non-negative, got " + setting);
+            }
+            switch (key) {
+                case "weight": weights[0] = value; break;
+                case "bossNear": weights[1] = value; break;
+                case "playerMid": weights[2] = value; break;
+                case "playerLow": weights[3] = value; break;
+                default: throw new IllegalArgumentException(where + "unknown combo setting " + key);
+            }
+        }
+        return new Combo(attacks, weights[0], weights[1], weights[2], weights[3]);
+    }
+
+    private static Attack parseAttack(String text, String where) {
+        String[] parts = text.split("\\s+", 6);
+        if (parts.length < 6) {
+            throw new IllegalArgumentException(where + "attack needs charge-up, cool-down, two directions, damage and text");
+        }
+        int chargeUp = parseNumber(parts[0], where);
+        int coolDown = parseNumber(parts[1], where);
+        int[] directions = {parseNumber(parts[2], where), parseNumber(parts[3], where)};
+        int damage = parseNumber(parts[4], where);
+        if (chargeUp > Short.MAX_VALUE || coolDown > Short.MAX_VALUE) {
+            throw new IllegalArgumentException(where + "time out of range");
+        }
+        for (int direction : directions) {
+            if (direction > 3) {
+                throw new IllegalArgumentException(where + "dodge direction must be 0-3");
+            }
+        }
+        return new Attack(unescape(parts[5]), chargeUp, coolDown, directions, damage);
+    }
+
+    private static int parseNumber(String text, String where) {
+        try {
+            int value = Integer.parseInt(text);
+            if (value < 0) throw new NumberFormatException();
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(where + "expected a non-negative number, got " + text);
+        }
+    }
+
+    private static String unescape(String text) {
+        return text.replace("\\n", "\n");
+    }
+
+    /**
+     * Encodes one boss as a pack record.
+     */
+    private static byte[] encode(BossDefinition definition) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(definition.getHp());
+        out.writeInt(definition.getRunes());
+        out.writeUTF(definition.getWinLine());
+        out.writeUTF(definition.getPhaseLine());
+        out.writeUTF(definition.getDeathLine());
+        for (List<Combo> phase : List.of(definition.getCombos1(), definition.getCombos2())) {
+            out.writeShort(phase.size());
+            for (Combo combo : phase) {
+                out.writeDouble(combo.getWeight());
+                out.writeDouble(combo.getBossNear());
+                out.writeDouble(combo.getPlayerMid());
+                out.writeDouble(combo.getPlayerLow());
+                out.writeShort(combo.getAttacks().size());
+                for (Attack attack : combo.getAttacks()) {
+                    out.writeShort(attack.getChargeUpTime());
+                    out.writeShort(attack.getCoolDownTime());
+                    out.writeByte(attack.getDodgeDirections()[0]);
+                    out.writeByte(attack.getDodgeDirections()[1]);
+                    out.writeInt(attack.getDamage());
+                    out.writeUTF(attack.getLine());
+                }
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Compiles the boss data files into a pack file.
+     *
+     * @param args Optional source directory and output file.
+     * @throws IOException If a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path sources = args.length > 0 ? Paths.get(args[0]) : BossPack.SOURCES;
+        Path pack = args.length > 1 ? Paths.get(args[1]) : BossPack.PACK;
+        byte[] bytes = compile(sources);
+        Files.write(pack, bytes);
+        System.out.println("Wrote " + bytes.length + " bytes to " + pack);
+    }
+}
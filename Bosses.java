@@ -0,0 +1,40 @@
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Registry of every boss in the boss pack, in pack order.
+ * Lets tools create a fresh boss by name, including bosses that exist only as data files.
+ */
+public class Bosses {
+
+    /**
+     * Gets the names of all bosses.
+     *
+     * @return The boss names in pack order.
+     */
+    public static List<String> names() {
+        return BossPack.get().names();
+    }
+
+    /**
+     * Gets the factory for the named boss.
+     *
+     * @param name The boss name, e.g. "Margit".
+     * @return A supplier creating a fresh boss at full health.
+     * @throws IllegalArgumentException If there is no boss with that name.
+     */
+    public static Supplier<Boss> factory(String name) {
+        BossDefinition definition = BossPack.load(name);
+        return () -> new Boss(definition);
+    }
+
+    /**
+     * Creates a fresh instance of the named boss.
+     *
+     * @param name The boss name, e.g. "Margit".
+     * @return A new boss at full health in phase 1.
+     */
+    public static Boss create(String name) {
+        return factory(name).get();
+    }
+}
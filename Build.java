@@ -0,0 +1,97 @@
+import java.util.Arrays;
+
+/**
+ * A character build: stat allocation, weapon and healing count.
+ * Used to create identical fresh players for simulated fights.
+ */
+public class Build {
+    public static final int MAX_STAT = 99; // Highest level of any stat, as in Main.getStat
+
+    private String name; // Label used in reports
+    private int[] stats; // Vigor, Mind, Endurance, Strength, Dexterity, Intelligence, Faith, Arcane
+    private Weapon weapon; // Weapon the player fights with
+    private int healingTotal; // Number of heals at the start of a fight
+
+    /**
+     * Creates a build with the given stats and weapon.
+     *
+     * @param name A label for the build.
+     * @param stats The 8 stat values, in the order used by Main.levelUp.
+     * @param weapon The weapon the player fights with.
+     * @param healingTotal The number of heals at the start of a fight.
+     */
+    public Build(String name, int[] stats, Weapon weapon, int healingTotal) {
+        if (stats.length != 8) {
+            throw new IllegalArgumentException("A build needs 8 stats, got " + stats.length);
+        }
+        this.name = name;
+        this.stats = Arrays.copyOf(stats, 8);
+        this.weapon = weapon;
+        this.healingTotal = healingTotal;
+    }
+
+    /**
+     * Spends stat points on a weapon's damage stats, filling its highest scaling stats first.
+     * Damage is linear in the stats, so this gives the most damage for the points.
+     * Points that no scaling stat can take stay unspent.
+     *
+     * @param stats The current 8 stats, which are not changed.
+     * @param weapon The weapon whose scaling decides where points go.
+     * @param points The points to spend.
+     * @return The new stats.
+     */
+    public static int[] spendOnDamage(int[] stats, Weapon weapon, int points) {
+        int[] spent = Arrays.copyOf(stats, 8);
+        double[] scaling = weapon.getScaling();
+        boolean[] filled = new boolean[scaling.length];
+        while (points > 0) {
+            int best = -1;
+            for (int i = 0; i < scaling.length; i++) {
+                if (!filled[i] && scaling[i] > 0 && (best < 0 || scaling[i] > scaling[best])) best = i;
+            }
+            if (best < 0) break; // Nothing left that adds damage
+            int added = Math.min(points, MAX_STAT - spent[best + 3]);
+            spent[best + 3] += added;
+            filled[best] = true;
+            points -= added;
+        }
+        return spent;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int[] getStats() {
+        return Arrays.copyOf(stats, 8);
+    }
+
+    public Weapon getWeapon() {
+        return weapon;
+    }
+
+    public int getHealingTotal() {
+        return healingTotal;
+    }
+
+    /**
+     * Creates a fresh player with this build, with HP and FP raised by Vigor and Mind
+     * the same way Main.levelUp does.
+     *
+     * @return A new player ready to fight.
+     */
+    public Player newPlayer() {
+        Player player = new Player(name);
+        player.setStats(Arrays.copyOf(stats, 8));
+        player.setHand(weapon.copy()); // Fights run in parallel, so each gets its own weapon and damage cache
+        player.setHp(player.getHp() + stats[0] * 30);
+        player.setFp(player.getFp() + stats[1] * 30);
+        player.setHealingTotal(healingTotal);
+        return player;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + Arrays.toString(stats) + " with " + weapon.getName();
+    }
+}
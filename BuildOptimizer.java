@@ -0,0 +1,291 @@
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Searches stat allocations, weapons and upgrades for the build that does best against a boss
+ * on a fixed rune budget.
+ *
+ * Only Vigor (HP) and the five damage stats matter in combat: Mind only adds FP, which the
+ * special attack never checks, and Endurance is unused. Damage is linear in the damage stats,
+ * so for a given number of points the best damage comes from filling the weapon's highest
+ * scaling stats first. That leaves the weapon, its upgrades and the split between Vigor and
+ * damage, which is searched by parallel branch-and-bound: a range of Vigor values is bounded
+ * by a fight with the HP of the highest and the damage of the lowest, and dropped when even
+ * that cannot beat the best build found so far. This assumes more HP and more damage never
+ * make the automated player worse, which holds on average.
+ *
+ * Builds are scored with the simulator's automated player over a fixed set of seeds, so every
+ * build faces the same boss combos. Fight results are cached by HP, damage, attack time and
+ * the weapon's status effect, which is all that distinguishes one build from another in combat.
+ */
+public class BuildOptimizer {
+    private static final int MAX_UPGRADES = 4; // Weapon levels available through Weapon.upgrade
+
+    // Fields of a score cache key, from the highest bits down
+    private static final KeyField KEY_HP = new KeyField("HP", 44, 20);
+    private static final KeyField KEY_DAMAGE = new KeyField("damage", 20, 24);
+    private static final KeyField KEY_STATUS = new KeyField("status", 17, 3);
+    private static final KeyField KEY_POWER = new KeyField("status power", 10, 7);
+    private static final KeyField KEY_TIME = new KeyField("attack time", 0, 10);
+
+    /**
+     * What a build is scored on.
+     */
+    public enum Objective {
+        WIN_RATE, // Chance of winning a fight
+        TIME_TO_KILL // Expected time to win, counting lost attempts
+    }
+
+    private String boss; // The boss to beat
+    private Objective objective; // What builds are scored on
+    private int fights; // Fights per evaluation
+    private int heals; // Heals the player has
+    private Simulator simulator; // Runs the fights that score a build
+    private ForkJoinPool pool; // Pool running the search
+    private ConcurrentHashMap<Long, Double> scores = new ConcurrentHashMap<>(); // Score of each (HP, damage, time, status effect)
+    private AtomicInteger builds = new AtomicInteger(); // Complete builds scored
+    private AtomicInteger pruned = new AtomicInteger(); // Vigor ranges dropped by their bound
+
+    private final Object lock = new Object(); // Guards the best build
+    private volatile double bestScore; // Score of the best build found so far
+    private Build best; // The best build found so far
+    private int bestIndex; // Wheel index of the best build's weapon
+    private int bestUpgrades; // Upgrades bought for the best build's weapon
+
+    /**
+     * Creates an optimizer with the simulator's default automated player.
+     *
+     * @param boss The name of the boss to beat.
+     * @param objective What builds are scored on.
+     * @param fights The number of fights each build is scored over.
+     * @param heals The number of heals the player has.
+     */
+    public BuildOptimizer(String boss, Objective objective, int fights, int heals) {
+        this.boss = boss;
+        this.objective = objective;
+        this.fights = fights;
+        this.heals = heals;
+        this.simulator = new Simulator();
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Finds the best build a rune budget can buy from a weapon wheel.
+     * Weapons cost their price, upgrades their upgrade price and stats one rune per point.
+     * Only one search may run on an optimizer at a time.
+     *
+     * @param wheel The weapons on offer.
+     * @param runes The rune budget.
+     * @return The best build, or null if no weapon on the wheel is affordable.
+     */
+    public Build optimize(Weapon[] wheel, int runes) {
+        bestScore = Double.NEGATIVE_INFINITY;
+        best = null;
+        bestIndex = -1;
+        bestUpgrades = -1;
+        builds.set(0);
+        pruned.set(0);
+
+        SearchTask[] tasks = new SearchTask[wheel.length * (MAX_UPGRADES + 1)];
+        int count = 0;
+        for (int index = 0; index < wheel.length; index++) {
+            Weapon weapon = wheel[index].copy();
+            int left = runes - weapon.getPrice();
+            for (int upgrades = 0; upgrades <= MAX_UPGRADES && left >= 0; upgrades++) {
+                tasks[count++] = new SearchTask(weapon.copy(), index, upgrades, left, 0, Math.min(Build.MAX_STAT, left));
+                if (upgrades == MAX_UPGRADES) break;
+                left -= weapon.getUpgradePrice();
+                weapon.upgrade();
+            }
+        }
+        for (int i = 0; i < count; i++) pool.execute(tasks[i]);
+        for (int i = 0; i < count; i++) tasks[i].join();
+        return best;
+    }
+
+    /**
+     * Gets the score of the build returned by the last search.
+     *
+     * @return The win rate, or the negated expected time to kill in seconds.
+     */
+    public double getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * Gets the number of complete builds scored in the last search.
+     *
+     * @return The number of builds.
+     */
+    public int getBuildsScored() {
+        return builds.get();
+    }
+
+    /**
+     * Gets the number of Vigor ranges the last search dropped without scoring their builds.
+     *
+     * @return The number of pruned ranges.
+     */
+    public int getPruned() {
+        return pruned.get();
+    }
+
+    /**
+     * Gets the number of distinct fight evaluations run so far, across all searches.
+     *
+     * @return The number of cached evaluations.
+     */
+    public int getEvaluations() {
+        return scores.size();
+    }
+
+    /**
+     * Branch-and-bound over the Vigor of one weapon at one upgrade level.
+     */
+    private class SearchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Weapon weapon;
+        private final int index;
+        private final int upgrades;
+        private final int points;
+        private final int lowVigor;
+        private final int highVigor;
+
+        SearchTask(Weapon weapon, int index, int upgrades, int points, int lowVigor, int highVigor) {
+            this.weapon = weapon;
+            this.index = index;
+            this.upgrades = upgrades;
+            this.points = points;
+            this.lowVigor = lowVigor;
+            this.highVigor = highVigor;
+        }
+
+        @Override
+        protected void compute() {
+            if (lowVigor == highVigor) {
+                int[] stats = allocate(weapon, points, lowVigor);
+                Build build = new Build("Optimized", stats, weapon, heals);
+                Player player = build.newPlayer();
+                double score = score(player.getHp(), player.getAttackDamage(1), player.getAttackTime(1), weapon);
+                builds.incrementAndGet();
+                offer(build, index, upgrades, score);
+                return;
+            }
+
+            // The best any Vigor in range could do: the most HP with the most damage.
+            // Only ranges that cannot even tie the best are dropped, so ties are settled by offer alone.
+            int hp = 300 + highVigor * 30;
+            Player probe = probe(weapon, allocate(weapon, points, lowVigor));
+            if (score(hp, probe.getAttackDamage(1), probe.getAttackTime(1), weapon) < bestScore) {
+                pruned.incrementAndGet();
+                return;
+            }
+            int middle = (lowVigor + highVigor) >>> 1;
+            invokeAll(new SearchTask(weapon, index, upgrades, points, lowVigor, middle),
+                    new SearchTask(weapon, index, upgrades, points, middle + 1, highVigor));
+        }
+    }
+
+    /**
+     * Records a build if it beats the best so far. Ties keep the build with more HP, then the
+     * weapon earlier on the wheel, then the one with fewer upgrades, so the result does not
+     * depend on which thread finishes first.
+     */
+    private void offer(Build build, int index, int upgrades, double score) {
+        synchronized (lock) {
+            if (best == null || score > bestScore || (score == bestScore && winsTie(build, index, upgrades))) {
+                bestScore = score;
+                best = build;
+                bestIndex = index;
+                bestUpgrades = upgrades;
+            }
+        }
+    }
+
+    /**
+     * Decides whether a build that scores the same as the best should replace it.
+     */
+    private boolean winsTie(Build build, int index, int upgrades) {
+        int vigor = build.getStats()[0];
+        int bestVigor = best.getStats()[0];
+        if (vigor != bestVigor) return vigor > bestVigor;
+        if (index != bestIndex) return index < bestIndex;
+        return upgrades < bestUpgrades;
+    }
+
+    /**
+     * Puts points into Vigor and spends the rest on the weapon's damage stats.
+     */
+    private static int[] allocate(Weapon weapon, int points, int vigor) {
+        int[] stats = new int[8];
+        stats[0] = vigor;
+        return Build.spendOnDamage(stats, weapon, points - vigor);
+    }
+
+    /**
+     * Makes a player with a stats array and weapon, to read its attack damage and time from.
+     */
+    private static Player probe(Weapon weapon, int[] stats) {
+        Player player = new Player("Probe");
+        player.setStats(stats);
+        player.setHand(weapon);
+        return player;
+    }
+
+    /**
+     * Scores a fighter by HP, light attack damage, attack time and the weapon's status effect,
+     * running the fights once per combination.
+     */
+    private double score(int hp, int damage, int time, Weapon weapon) {
+        int status = weapon.getStatus();
+        int power = weapon.getStatusPower();
+        long key = KEY_HP.pack(hp) | KEY_DAMAGE.pack(damage) | KEY_STATUS.pack(status) | KEY_POWER.pack(power)
+                | KEY_TIME.pack(time);
+        Double cached = scores.get(key);
+        if (cached != null) return cached;
+
+        SimulationResult result = simulator.runSeeded(boss, hp, damage, time, status, power, heals, fights);
+        double score;
+        if (objective == Objective.WIN_RATE) {
+            score = result.getWinRate();
+        } else {
+            // Each attempt costs a whole fight on average, and it takes fights / wins attempts to win
+            score = result.getWins() == 0 ? Double.NEGATIVE_INFINITY : -result.getMeanLength() * result.getFights() / result.getWins();
+        }
+        scores.putIfAbsent(key, score);
+        return score;
+    }
+
+    /**
+     * Finds the best build against a boss for a rune budget, using the first weapon wheel.
+     *
+     * @param args Boss name, rune budget, optional objective (WIN_RATE or TIME_TO_KILL), wheel index and fights per build.
+     */
+    public static void main(String[] args) {
+        String boss = args.length > 0 ? args[0] : "Margit";
+        int runes = args.length > 1 ? Integer.parseInt(args[1]) : 15;
+        Objective objective = args.length > 2 ? Objective.valueOf(args[2]) : Objective.WIN_RATE;
+        int wheel = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+        int fights = args.length > 4 ? Integer.parseInt(args[4]) : 500;
+
+        BuildOptimizer optimizer = new BuildOptimizer(boss, objective, fights, 2);
+        long start = System.nanoTime();
+        Build build = optimizer.optimize(WeaponWheels.get(wheel), runes);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        if (build == null) {
+            System.out.println("Nothing on weapon wheel " + wheel + " is affordable with " + runes + " runes");
+            return;
+        }
+        double score = optimizer.getBestScore();
+        System.out.println(build);
+        System.out.println(objective == Objective.WIN_RATE
+                ? String.format("Win rate against %s: %.1f%%", boss, score * 100)
+                : String.format("Expected time to kill %s: %.1fs", boss, -score));
+        System.out.printf("%d builds scored, %d ranges pruned, %d distinct fighters simulated in %dms%n",
+                optimizer.getBuildsScored(), optimizer.getPruned(), optimizer.getEvaluations(), millis);
+    }
+}
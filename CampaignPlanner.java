@@ -0,0 +1,272 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Plans a whole campaign: what to buy, upgrade and level at every stop so that the chance
+ * of beating every boss on the first attempt is as high as possible.
+ *
+ * The campaign follows Main: character creation before Margit, then a Site of Grace before
+ * each later boss, with the weapon wheel replaced before Godrick, Rennala, Mohg, Gideon and
+ * Malenia. A win pays the boss's runes and one more heal. Plans are found by beam search:
+ * each stop expands every kept state by its weapon, upgrade and stat choices, scores each
+ * child by its win rate against the coming boss, and keeps the states most likely to have
+ * come this far. Stat points left unspent are carried forward, so saving runes for a later
+ * wheel is one of the choices.
+ *
+ * As in BuildOptimizer, only HP, light attack damage, attack time, the weapon's status effect
+ * and heals matter in a fight, so fight results are cached on those and shared by every state,
+ * stop and thread.
+ */
+public class CampaignPlanner {
+    private static final int MAX_UPGRADES = 4; // Weapon levels available through Weapon.upgrade
+
+    /**
+     * The bosses in campaign order and the weapon wheel put on offer before each, or -1 to keep the last one.
+     */
+    private static final String[] BOSSES = {"Margit", "Godrick", "Rennala", "RedWolf", "Serpent", "Mohg",
+            "Morgott", "FireGiant", "BeastClergyman", "Gideon", "Godfrey", "Malenia", "Radagon"};
+    private static final int[] WHEELS = {0, 1, 2, -1, -1, 3, -1, -1, -1, 4, -1, 5, -1};
+
+    private static final double[] SPEND = {0, 0.5, 1}; // Shares of the free runes spent on stats at a stop
+    private static final double[] VIGOR = {0, 1 / 3.0, 2 / 3.0, 1}; // Shares of those stat points put into Vigor
+
+    // Fields of a win rate cache key, from the highest bits down
+    private static final KeyField KEY_BOSS = new KeyField("boss", 59, 5);
+    private static final KeyField KEY_HEALS = new KeyField("heals", 52, 7);
+    private static final KeyField KEY_HP = new KeyField("HP", 36, 16);
+    private static final KeyField KEY_DAMAGE = new KeyField("damage", 16, 20);
+    private static final KeyField KEY_STATUS = new KeyField("status", 13, 3);
+    private static final KeyField KEY_POWER = new KeyField("status power", 6, 7);
+    private static final KeyField KEY_TIME = new KeyField("attack time", 0, 6);
+
+    private int beamWidth; // States kept after each stop
+    private int fights; // Fights per evaluation
+    private Simulator simulator; // Runs the fights that score a state
+    private int[] runes; // Runes paid by each boss
+    private ConcurrentHashMap<Long, Double> winRates = new ConcurrentHashMap<>(); // Win rate of each (boss, heals, HP, damage, status effect, time)
+    private int statesExpanded; // States generated by the last plan
+
+    /**
+     * The character between stops: what it carries and how it got there.
+     * States are never changed once created; each choice makes a new one.
+     */
+    static class State {
+        private final int runes; // Runes not yet spent
+        private final int[] stats; // The 8 stats
+        private final Weapon hand; // The weapon held
+        private final Weapon[] wheel; // The weapons on offer, with sold weapons swapped in
+        private final int heals; // Heals at the start of a fight
+        private final double probability; // Chance of having won every fight so far on the first attempt
+        private final State parent; // The state at the previous stop, or null at creation
+        private final String choice; // What was done at the stop that led here
+        private final double winRate; // Win rate against the boss fought after this stop
+
+        State(int runes, int[] stats, Weapon hand, Weapon[] wheel, int heals, double probability,
+              State parent, String choice, double winRate) {
+            this.runes = runes;
+            this.stats = stats;
+            this.hand = hand;
+            this.wheel = wheel;
+            this.heals = heals;
+            this.probability = probability;
+            this.parent = parent;
+            this.choice = choice;
+            this.winRate = winRate;
+        }
+
+        /**
+         * Identifies states that will play out the same from here on.
+         */
+        String signature() {
+            StringBuilder builder = new StringBuilder();
+            builder.append(runes).append(Arrays.toString(stats)).append(hand.getName()).append(heals);
+            for (Weapon weapon : wheel) builder.append('|').append(weapon.getName());
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Creates a planner with the simulator's default automated player.
+     *
+     * @param beamWidth The number of states kept after each stop.
+     * @param fights The number of fights each fighter is scored over.
+     */
+    public CampaignPlanner(int beamWidth, int fights) {
+        this.beamWidth = beamWidth;
+        this.fights = fights;
+        this.simulator = new Simulator();
+        this.runes = new int[BOSSES.length];
+        for (int i = 0; i < BOSSES.length; i++) {
+            runes[i] = Bosses.create(BOSSES[i]).getRunes();
+        }
+    }
+
+    /**
+     * Plans the campaign for a new character.
+     *
+     * @return The plan's final state, whose parents lead back to character creation.
+     */
+    public State plan() {
+        Player start = new Player("Planner");
+        List<State> beam = new ArrayList<>();
+        beam.add(new State(start.getRunes(), new int[8], start.getHand(), new Weapon[0],
+                start.getHealingTotal(), 1, null, null, 1));
+        statesExpanded = 0;
+
+        for (int stage = 0; stage < BOSSES.length; stage++) {
+            // Each stop starts from the last fight's winnings
+            List<State> children = new ArrayList<>();
+            for (State state : beam) {
+                Weapon[] wheel = WHEELS[stage] >= 0 ? WeaponWheels.get(WHEELS[stage]) : state.wheel;
+                expand(state, wheel, stage == 0, children);
+            }
+            statesExpanded += children.size();
+
+            // Score every distinct fighter on all cores, then rank the stop's states
+            int boss = stage;
+            Set<Long> fighters = new HashSet<>();
+            for (State child : children) fighters.add(key(boss, child));
+            fighters.parallelStream()
+                    .filter(key -> !winRates.containsKey(key))
+                    .forEach(key -> winRates.put(key, simulate(key)));
+
+            Map<String, State> distinct = new HashMap<>();
+            for (State child : children) {
+                double winRate = winRates.get(key(boss, child));
+                State scored = new State(child.runes + runes[boss], child.stats, child.hand, child.wheel,
+                        child.heals + 1, child.probability * winRate, child.parent, child.choice, winRate);
+                distinct.merge(scored.signature(), scored, (a, b) -> a.probability >= b.probability ? a : b);
+            }
+            beam = new ArrayList<>(distinct.values());
+            beam.sort(Comparator.comparingDouble((State s) -> -s.probability)
+                    .thenComparingInt(s -> -s.runes)
+                    .thenComparingInt(s -> -s.stats[0]));
+            if (beam.size() > beamWidth) beam = new ArrayList<>(beam.subList(0, beamWidth));
+        }
+        return beam.get(0);
+    }
+
+    /**
+     * Gets the number of states generated by the last plan.
+     *
+     * @return The number of states.
+     */
+    public int getStatesExpanded() {
+        return statesExpanded;
+    }
+
+    /**
+     * Gets the number of distinct fighters simulated so far.
+     *
+     * @return The number of cached win rates.
+     */
+    public int getEvaluations() {
+        return winRates.size();
+    }
+
+    /**
+     * Adds every state one stop can lead to: keep or buy each affordable weapon, take any
+     * affordable upgrades, then spend some of what is left on Vigor and damage stats.
+     */
+    private void expand(State state, Weapon[] wheel, boolean creation, List<State> children) {
+        for (int buy = -1; buy < wheel.length; buy++) {
+            Weapon hand = state.hand;
+            Weapon[] offered = wheel;
+            int left = state.runes;
+            if (buy >= 0) {
+                // Buying swaps the held weapon into the wheel and refunds its price, as in Main.buyWeapon
+                left += hand.getPrice() - wheel[buy].getPrice();
+                if (left < 0) continue;
+                offered = wheel.clone();
+                offered[buy] = hand;
+                hand = wheel[buy];
+            }
+
+            int maxUpgrades = creation ? 0 : MAX_UPGRADES - hand.getLevel();
+            Weapon upgraded = hand.copy();
+            String bought = buy >= 0 ? "buy " + hand.getName() : "keep " + hand.getName();
+            for (int upgrades = 0; upgrades <= maxUpgrades && left >= 0; upgrades++) {
+                String choice = upgrades > 0 ? bought + ", upgrade to " + upgraded.getName() : bought;
+                addAllocations(state, upgraded.copy(), offered, left, choice, children);
+                if (upgrades == maxUpgrades) break;
+                left -= upgraded.getUpgradePrice();
+                upgraded.upgrade();
+            }
+        }
+    }
+
+    /**
+     * Adds the states for each way of spending some of the free runes on stats.
+     */
+    private void addAllocations(State state, Weapon hand, Weapon[] wheel, int runes, String choice,
+                                List<State> children) {
+        Set<String> seen = new HashSet<>();
+        for (double spend : SPEND) {
+            int points = (int) Math.round(runes * spend);
+            for (double vigorShare : VIGOR) {
+                int[] stats = Arrays.copyOf(state.stats, 8);
+                int vigor = Math.min(Build.MAX_STAT - stats[0], (int) Math.round(points * vigorShare));
+                stats[0] += vigor;
+                stats = Build.spendOnDamage(stats, hand, points - vigor);
+                int spent = Arrays.stream(stats).sum() - Arrays.stream(state.stats).sum();
+                if (!seen.add(Arrays.toString(stats))) continue;
+
+                String level = spent > 0 ? choice + ", level to " + Arrays.toString(stats) : choice;
+                children.add(new State(runes - spent, stats, hand, wheel, state.heals, state.probability,
+                        state, level, 0));
+            }
+        }
+    }
+
+    /**
+     * Packs a boss and everything about a state that matters in its fight into a cache key.
+     * Throws IllegalArgumentException if a value is too wide for its field, rather than mixing it into the next.
+     */
+    private static long key(int boss, State state) {
+        Player player = new Build("Planner", state.stats, state.hand, state.heals).newPlayer();
+        return KEY_BOSS.pack(boss) | KEY_HEALS.pack(state.heals) | KEY_HP.pack(player.getHp())
+                | KEY_DAMAGE.pack(player.getAttackDamage(1)) | KEY_STATUS.pack(state.hand.getStatus())
+                | KEY_POWER.pack(state.hand.getStatusPower()) | KEY_TIME.pack(player.getAttackTime(1));
+    }
+
+    /**
+     * Runs the fights for a cache key.
+     */
+    private double simulate(long key) {
+        return simulator.runSeeded(BOSSES[KEY_BOSS.unpack(key)], KEY_HP.unpack(key), KEY_DAMAGE.unpack(key),
+                KEY_TIME.unpack(key), KEY_STATUS.unpack(key), KEY_POWER.unpack(key), KEY_HEALS.unpack(key), fights)
+                .getWinRate();
+    }
+
+    /**
+     * Plans the campaign and prints what to do at each stop.
+     *
+     * @param args Optional beam width and fights per fighter.
+     */
+    public static void main(String[] args) {
+        int beamWidth = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int fights = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        CampaignPlanner planner = new CampaignPlanner(beamWidth, fights);
+        long start = System.nanoTime();
+        State last = planner.plan();
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        List<State> stops = new ArrayList<>();
+        for (State state = last; state.parent != null; state = state.parent) stops.add(0, state);
+        for (int i = 0; i < stops.size(); i++) {
+            State stop = stops.get(i);
+            System.out.printf("%-15s %5.1f%%  %s%n", BOSSES[i], stop.winRate * 100, stop.choice);
+        }
+        System.out.printf("Chance of clearing the campaign without a loss: %.1f%%%n", last.probability * 100);
+        System.out.printf("%d states expanded, %d distinct fighters simulated in %dms%n",
+                planner.getStatesExpanded(), planner.getEvaluations(), millis);
+    }
+}
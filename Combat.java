@@ -1,12 +1,46 @@
-import java.util.Scanner;
-
 /**
- * Manages the combat between the player and the boss.
+ * Manages the combat between the player and the enemies of a fight, a single boss or many.
+ * Decisions come from a PlayerController. In headless mode nothing is printed and
+ * nothing waits for Enter, so a whole fight runs at full CPU speed.
+ *
+ * Every enemy plays its combos on its own, and what each one is doing is kept in arrays
+ * indexed like Enemies: where its combo ends and its pending impact or cool-down end on the
+ * shared timeline. A Boss is the enemies of a fight with one enemy in them, so the same rules
+ * drive a boss fight, a duo and a horde.
  */
 public class Combat {
+    private static final int PHASE = 0; // Timeline event types, in the order they happen at the same time
+    private static final int IMPACT = 1; // data = enemy << 8 | slot of the attack that lands
+    private static final int COOL_END = 2; // data = enemy << 8 | slot of the attack whose cool-down ends
+    private static final int SLOT_BITS = 8; // Bits of an event's data holding the combo table slot
+    private static final int MAX_ENEMIES = 1 << 16; // Enemies whose events fit in the timeline's data
+
     private Player player; // The player participating in combat
-    private Boss boss; // The boss the player is fighting
+    private Enemies enemies; // The enemies the player is fighting
+    private PlayerController controller; // Source of the player's decisions
+    private boolean headless; // True to skip all console output and Enter waits
     private int timeTaken; // Time taken for each action
+    private int elapsedTime; // Total time the fight has lasted
+    private int decisions; // Number of decisions the player has made
+    private CombatEventBus events; // Where fight events are published, or null
+    private CombatTimeline timeline = new CombatTimeline(); // Every enemy's scheduled events
+    private StatusEffects effects; // Status effects of the player's weapon, or null for a weapon without one
+
+    // What each enemy is doing, indexed like Enemies
+    private long[] pending; // Each enemy's pending impact or cool-down end
+    private int[] comboEnd; // Slot after the last attack of each enemy's combo, or -1 between combos
+    private boolean[] ending; // True when an enemy's combo ends with its current cool-down, after a phase change
+    private boolean[] phasing; // True once an enemy's phase change is scheduled
+    private boolean[] doomed; // True once an enemy's HP has run out, until it is slain
+    private boolean[] hurt; // True for enemies the status effects hurt since they were last checked
+    private int[] idle; // Ring of enemies between combos, in the order they became idle
+    private int idleHead; // Ring position of the next idle enemy
+    private int idleCount; // Enemies in the ring
+    private int[] doomedList; // Doomed enemies not yet slain
+    private int doomedCount; // Entries in doomedList
+    private int[] hurtList; // Enemies flagged in hurt
+    private int hurtCount; // Entries in hurtList
+    private int target; // Enemy the player's last action struck, or -1
 
     /**
      * Creates a Combat instance with the given player and boss.
@@ -15,34 +49,175 @@ public class Combat {
      * @param boss The boss the player is fighting.
      */
     public Combat(Player player, Boss boss) {
+        this(player, boss, new ConsolePlayerController(), false);
+    }
+
+    /**
+     * Creates a Combat instance driven by the given controller.
+     * 
+     * @param player The player participating in the combat.
+     * @param enemies The enemies the player is fighting, such as a Boss.
+     * @param controller The source of the player's decisions.
+     * @param headless True to run without console output or Enter waits.
+     */
+    public Combat(Player player, Enemies enemies, PlayerController controller, boolean headless) {
         this.player = player;
-        this.boss = boss;
+        this.enemies = enemies;
+        this.controller = controller;
+        this.headless = headless;
+    }
+
+    /**
+     * Creates a Combat instance whose enemies choose combos from the given seed,
+     * so the same seed and the same decisions always produce the same fight.
+     * 
+     * @param player The player participating in the combat.
+     * @param enemies The enemies the player is fighting, such as a Boss.
+     * @param controller The source of the player's decisions.
+     * @param headless True to run without console output or Enter waits.
+     * @param seed The seed for the enemies' combo choices.
+     */
+    public Combat(Player player, Enemies enemies, PlayerController controller, boolean headless, long seed) {
+        this(player, enemies, controller, headless);
+        enemies.setSeed(seed);
+    }
+
+    /**
+     * Publishes this fight's events to a bus. Events are only published when a bus is set.
+     * 
+     * @param events The bus to publish to, or null to stop publishing.
+     */
+    public void setEventBus(CombatEventBus events) {
+        this.events = events;
     }
 
     /**
      * Starts the combat sequence.
      * 
+     * The fight runs as a sequence of timed events: attacks landing, cool-downs ending and
+     * phase changes, for every enemy on one timeline. The player acts whenever the next event is
+     * still to come, and each action moves the clock forward by the time it takes. Events the
+     * clock has reached then happen, and what they start, such as a cool-down, is timed from the
+     * end of the player's action. Status effect ticks due by an event happen just before it.
+     * An enemy whose HP runs out is slain, and the fight is won once every enemy is.
+     * 
      * @return True if the player wins, false if the player loses.
+     * @throws IllegalArgumentException If there are more than 65536 enemies or a combo table has more than 256 slots.
      */
     public boolean start() {
         int topHp = player.getHp();
         int topFp = player.getFp();
-        int topBossHp = boss.getHp();
-        
-        while (player.getHp() > 0 && boss.getHp() > 0) {
-            int outcome = bossTurn(topHp, topFp, topBossHp);
-            switch (outcome) {
-                case 0:
-                    return false; // Player lost
-                case 1:
-                    break; // Continue combat
-                case 2:
-                    return true; // Player won
+        int size = enemies.size();
+        if (size > MAX_ENEMIES) {
+            throw new IllegalArgumentException("At most " + MAX_ENEMIES + " enemies fit in a fight, got " + size);
+        }
+        pending = new long[size];
+        comboEnd = new int[size];
+        ending = new boolean[size];
+        phasing = new boolean[size];
+        doomed = new boolean[size];
+        hurt = new boolean[size];
+        idle = new int[size];
+        doomedList = new int[size];
+        hurtList = new int[size];
+        idleHead = 0;
+        idleCount = 0;
+        doomedCount = 0;
+        hurtCount = 0;
+        timeline.clear();
+        for (int e = 0; e < size; e++) {
+            if (enemies.getComboTable(e).getChargeUp().length > 1 << SLOT_BITS) {
+                throw new IllegalArgumentException(enemies.getName(e) + " has more than " + (1 << SLOT_BITS) + " attack slots");
             }
+            comboEnd[e] = -1;
+            if (!enemies.isSlain(e)) idle(e);
         }
+        Weapon hand = player.getHand();
+        effects = hand == null || hand.getStatus() == StatusEffects.NONE ? null : new StatusEffects(hand, size, 1);
+        if (enemies.getRemaining() == 0) return won();
+
+        while (true) {
+            if (idleCount > 0) {
+                // Between combos: the enemy dies if its HP has run out, otherwise it starts another
+                int e = idle[idleHead];
+                idleHead = (idleHead + 1) % idle.length;
+                idleCount--;
+                if (enemies.isSlain(e)) continue;
+                if (enemies.getHp(e) <= 0) {
+                    checkDoomed(e);
+                    if (slayDoomed()) return won();
+                    continue;
+                }
+                if (player.getHp() <= 0) {
+                    speak("You died");
+                    publish(CombatEventBus.FIGHT_ENDED, -1, 0, player.getHp());
+                    return false; // Player lost
+                }
+                ComboTable table = enemies.getComboTable(e);
+                int combo = enemies.chooseComboIndex(e, player.getHp(), topHp);
+                comboEnd[e] = table.end(combo);
+                ending[e] = false;
+                publish(CombatEventBus.COMBO_CHOSEN, e, combo, 0);
+                if (table.start(combo) == comboEnd[e]) {
+                    comboEnd[e] = -1;
+                    idle(e);
+                } else {
+                    charge(e, table.start(combo));
+                }
+                continue;
+            }
+
+            long next = timeline.peek();
+            if (effects != null && effects.isActive()) {
+                int until = Math.min(CombatTimeline.time(next), elapsedTime);
+                runEffects(until);
+                if (hurtCount > 0) {
+                    if (slayDoomed()) return won();
+                    if (hurtPhasesChanged(until)) continue;
+                }
+            }
+            if (CombatTimeline.time(next) <= elapsedTime) {
+                timeline.poll();
+                if (!fire(next)) {
+                    speak(enemies.getDefinition(attacker(next)).getWinLine());
+                    speak("You died");
+                    publish(CombatEventBus.FIGHT_ENDED, -1, 0, player.getHp());
+                    return false; // Player lost
+                }
+                continue;
+            }
+
+            // The next event is still to come: the player acts
+            int e = attacker(next);
+            int slot = slot(next);
+            ComboTable table = enemies.getComboTable(e);
+            boolean charging = CombatTimeline.type(next) == IMPACT;
+            int timeLeft = CombatTimeline.time(next) - elapsedTime;
+            if (charging && !headless) Console.get().println(named(e, table.getLine(slot)));
+            int dir = playerAction(topHp, topFp, e, charging ? slot : -1 - slot, timeLeft);
+
+            if (target >= 0 && phaseChanged(target)) {
+                // Time spent on the action is not counted until after the phase change
+                schedulePhase(target, elapsedTime);
+                continue;
+            }
 
-        speak("You died");
-        return false; // Player lost
+            if (slayDoomed()) return won();
+
+            if (charging && dir > 0) {
+                if (timeLeft <= 2 && table.isSafe(slot, dir)) {
+                    speak("Successfully dodged attack!");
+                    publish(CombatEventBus.DODGE_SUCCEEDED, e, slot, dir);
+                    elapsedTime += timeLeft;
+                    timeline.cancel(next);
+                    cool(e, slot);
+                    continue;
+                }
+                elapsedTime += 2;
+            }
+            elapsedTime += getTimeTaken();
+            setTimeTaken(0);
+        }
     }
 
     /**
@@ -50,35 +225,64 @@ public class Combat {
      * 
      * @param topHp The player's maximum health points.
      * @param topFp The player's maximum focus points.
+     * @param enemy The enemy whose attack comes next.
+     * @param attack The combo table slot of the attack the enemy is charging, or -1 - slot during that attack's cool-down.
+     * @param timeLeft The time left before the attack lands or the cool-down ends.
      * @return An integer representing the result of the player's action.
      */
-    private int playerAction(int topHp, int topFp) {
-        Scanner input = new Scanner(System.in);
-        System.out.println("Health: " + player.getHp());
-        System.out.println("Focus: " + player.getFp());
-        System.out.println();
-        System.out.println("Boss Health: " + boss.getHp());
-        System.out.println("Total Heals: " + player.getHealingTotal());
-        System.out.println();
+    private int playerAction(int topHp, int topFp, int enemy, int attack, int timeLeft) {
+        target = -1;
+        if (!headless) {
+            Console console = Console.get();
+            console.println("Health: " + player.getHp());
+            console.println("Focus: " + player.getFp());
+            console.println();
+            if (enemies.size() == 1) {
+                console.println("Boss Health: " + enemies.getHp(0));
+            } else {
+                for (int e = 0; e < enemies.size(); e++) {
+                    if (!enemies.isSlain(e)) console.println(label(e) + " Health: " + enemies.getHp(e));
+                }
+            }
+            console.println("Total Heals: " + player.getHealingTotal());
+            console.println();
+        }
         
-        System.out.println("Choose an action:\n1) Attack\n2) Dodge\n3) Heal\n4) Wait\n");
-        int action = input.nextInt();
-        input.nextLine();
+        decisions++;
+        int action = controller.chooseAction(player, enemies, enemy, attack, timeLeft);
         switch (action) {
             case 1:
                 clearScreen();
-                System.out.println("Choose an attack:\n1) Light\n2) Heavy\n3) Special\n");
-                int nextAction = input.nextInt();
+                int nextAction = controller.chooseAttack(player, enemies);
                 switch (nextAction) {
                     case 1:
-                        setTimeTaken(player.attack(boss, player, 1));
-                        break;
                     case 2:
-                        setTimeTaken(player.attack(boss, player, 2));
-                        break;
                     case 3:
-                        player.setFp(player.getFp() - 50);
-                        setTimeTaken(player.attack(boss, player, 3));
+                        int struck = enemies.getRemaining() > 1 ? controller.chooseTarget(player, enemies) : standing();
+                        if (struck < 0 || struck >= enemies.size() || enemies.isSlain(struck)) {
+                            speak("Invalid action. Try again.\n");
+                            break;
+                        }
+                        target = struck;
+                        if (nextAction == 3) player.setFp(player.getFp() - 50);
+                        int enemyHp = enemies.getHp(struck);
+                        if (headless) {
+                            enemies.loseHp(struck, player.getAttackDamage(nextAction));
+                            setTimeTaken(player.getAttackTime(nextAction));
+                        } else {
+                            setTimeTaken(player.attack(enemies, struck, player, nextAction));
+                        }
+                        checkDoomed(struck);
+                        publish(CombatEventBus.DAMAGE_DEALT, struck, nextAction, enemyHp - enemies.getHp(struck));
+                        if (effects != null) {
+                            int extra = effects.hit(struck, enemies.getOriginalHp(struck), nextAction,
+                                    enemyHp - enemies.getHp(struck), elapsedTime);
+                            if (extra > 0) {
+                                enemies.loseHp(struck, extra);
+                                checkDoomed(struck);
+                                statusDamage(effects.getStatus(), struck, extra, elapsedTime);
+                            }
+                        }
                         break;
                     default:
                         speak("Invalid action. Try again.\n");
@@ -86,20 +290,12 @@ public class Combat {
                 break;
             case 2:
                 clearScreen();
-                System.out.println("Choose a direction:\n1) Forward\n2) Backward\n3) Right\n4) Left\n");
-                nextAction = input.nextInt();
-                switch (nextAction) {
-                    case 1:
-                        return player.dodge(1);
-                    case 2:
-                        return player.dodge(2);
-                    case 3:
-                        return player.dodge(3);
-                    case 4:
-                        return player.dodge(4);
-                    default:
-                        speak("Invalid action. Try again.\n");
+                nextAction = controller.chooseDodge(enemies, enemy, attack);
+                if (nextAction >= 1 && nextAction <= 4) {
+                    publish(CombatEventBus.DODGE_ATTEMPTED, enemy, attack, nextAction);
+                    return headless ? nextAction : player.dodge(nextAction);
                 }
+                speak("Invalid action. Try again.\n");
                 break;
             case 3:
                 clearScreen();
@@ -108,16 +304,19 @@ public class Combat {
                     setTimeTaken(2);
                     break;
                 }
-                System.out.println("What are you healing?\n1) Hp\n2) Fp\n");
-                nextAction = input.nextInt();
+                nextAction = controller.chooseHealTarget(player);
                 switch (nextAction) {
                     case 1:
+                        int hp = player.getHp();
                         player.setHealingTotal(player.getHealingTotal() - 1);
                         setTimeTaken(player.heal(player, true, topHp));
+                        publish(CombatEventBus.HEAL_USED, -1, 1, player.getHp() - hp);
                         break;
                     case 2:
+                        int fp = player.getFp();
                         player.setHealingTotal(player.getHealingTotal() - 1);
                         setTimeTaken(player.heal(player, false, topFp));
+                        publish(CombatEventBus.HEAL_USED, -1, 2, player.getFp() - fp);
                         break;
                     default:
                         speak("Invalid action. Try again.\n");
@@ -125,9 +324,7 @@ public class Combat {
                 break;
             case 4:
                 clearScreen();
-                System.out.println("How Long?\n");
-                nextAction = input.nextInt();
-                setTimeTaken(nextAction);
+                setTimeTaken(controller.chooseWaitTime(attack, timeLeft));
                 break;
             default:
                 speak("Invalid action. Try again.\n");
@@ -136,79 +333,284 @@ public class Combat {
     }
 
     /**
-     * Manages the boss's turn and attacks.
+     * Ends the fight with every enemy slain.
      * 
-     * @param topHp The player's maximum health points.
-     * @param topFp The player's maximum focus points.
-     * @param topBossHp The boss's maximum health points.
-     * @return An integer representing the outcome of the boss's turn.
-     */
-    private int bossTurn(int topHp, int topFp, int topBossHp) {
-        boolean phaseChange = false;
-        Combo combo;
-        while (player.getHp() > 0 && boss.getHp() > 0) {
-            if (boss.getPhase() == 1) combo = boss.chooseCombo1();
-            else combo = boss.chooseCombo2();
-            
-            for (Attack attack : combo.getAttacks()) {
-                int totalTime = attack.getChargeUpTime();
-                while (totalTime > 0) {
-                    System.out.println(attack.getLine());
-                    int dir = playerAction(topHp, topFp);
-                    
-                    if (boss.checkPhase()) {
-                        boss.setPhase(2);
-                        phaseChange = true;
-                        break;
-                    }
-                    
-                    if (boss.getHp() <= 0) {
-                        speak(boss.getDeathLine());
-                        speak("Foe Slain");
-                        return 2; // Player won
-                    }
-                    
-                    if (dir > 0) {
-                        if (totalTime <= 2 && (dir - 1 == attack.getDodgeDirections()[0] || dir - 1 == attack.getDodgeDirections()[1])) {
-                            speak("Successfully dodged attack!");
-                            totalTime = 0;
-                            break;
-                        }
-                        totalTime -= 2;
-                    }
-                    
-                    totalTime -= getTimeTaken();
-                    setTimeTaken(0);
-                    
-                    if (totalTime <= 0) {
-                        speak("You were hit!");
-                        player.setHp(player.getHp() - attack.getDamage());
-                        if (player.getHp() <= 0) {
-                            speak(boss.getWinLine());
-                            speak("You died");
-                            return 0; // Player lost
-                        }
-                    }
+     * @return True, for the player's win.
+     */
+    private boolean won() {
+        speak("Foe Slain");
+        publish(CombatEventBus.FIGHT_ENDED, -1, 1, player.getHp());
+        return true;
+    }
+
+    /**
+     * Finds the first enemy not yet slain.
+     * 
+     * @return The enemy's index, or -1 if every enemy has been slain.
+     */
+    private int standing() {
+        for (int e = 0; e < enemies.size(); e++) {
+            if (!enemies.isSlain(e)) return e;
+        }
+        return -1;
+    }
+
+    /**
+     * Marks an enemy to be slain if its HP has run out.
+     * 
+     * @param enemy The enemy's index.
+     */
+    private void checkDoomed(int enemy) {
+        if (enemies.getHp(enemy) <= 0 && !doomed[enemy]) {
+            doomed[enemy] = true;
+            doomedList[doomedCount++] = enemy;
+        }
+    }
+
+    /**
+     * Slays every enemy whose HP has run out.
+     * 
+     * @return True if no enemy is left standing.
+     */
+    private boolean slayDoomed() {
+        if (doomedCount == 0) return false;
+        for (int i = 0; i < doomedCount; i++) slay(doomedList[i]);
+        doomedCount = 0;
+        return enemies.getRemaining() == 0;
+    }
+
+    /**
+     * Takes an enemy out of the fight, cancelling its pending attack and status effects.
+     * 
+     * @param enemy The enemy's index.
+     */
+    private void slay(int enemy) {
+        enemies.slay(enemy);
+        if (comboEnd[enemy] >= 0) {
+            timeline.cancel(pending[enemy]);
+            comboEnd[enemy] = -1;
+        }
+        if (effects != null) effects.remove(enemy);
+        speak(enemies.getDefinition(enemy).getDeathLine());
+        publish(CombatEventBus.ENEMY_SLAIN, enemy, enemies.getRemaining(), enemies.getHp(enemy));
+    }
+
+    /**
+     * Adds an enemy to the back of the enemies waiting to start a combo.
+     * 
+     * @param enemy The enemy's index.
+     */
+    private void idle(int enemy) {
+        idle[(idleHead + idleCount) % idle.length] = enemy;
+        idleCount++;
+    }
+
+    /**
+     * Runs the status effect ticks due by a time, noting which enemies they hurt.
+     * 
+     * @param until The fight time to run the effects to.
+     */
+    private void runEffects(int until) {
+        int effect;
+        while ((effect = effects.poll(until)) >= 0) {
+            int enemy = effects.getLastTarget();
+            enemies.loseHp(enemy, effects.getLastDamage());
+            checkDoomed(enemy);
+            statusDamage(effect, enemy, effects.getLastDamage(), (int) effects.getLastTime());
+            if (!hurt[enemy]) {
+                hurt[enemy] = true;
+                hurtList[hurtCount++] = enemy;
+            }
+        }
+    }
+
+    /**
+     * Schedules the phase change of every enemy the status effects pushed over its phase threshold.
+     * 
+     * @param time The fight time the effects ran to.
+     * @return True if any enemy changes phases.
+     */
+    private boolean hurtPhasesChanged(int time) {
+        boolean changed = false;
+        for (int i = 0; i < hurtCount; i++) {
+            int enemy = hurtList[i];
+            hurt[enemy] = false;
+            if (!enemies.isSlain(enemy) && phaseChanged(enemy)) {
+                schedulePhase(enemy, time);
+                changed = true;
+            }
+        }
+        hurtCount = 0;
+        return changed;
+    }
+
+    /**
+     * Reports damage a status effect dealt to an enemy.
+     * 
+     * @param effect The status effect.
+     * @param enemy The enemy hurt.
+     * @param damage The damage dealt.
+     * @param time The fight time it was dealt.
+     */
+    private void statusDamage(int effect, int enemy, int damage, int time) {
+        if (!headless) Console.get().println(label(enemy) + " takes " + damage + " " + StatusEffects.name(effect) + " damage!");
+        if (events != null) events.publish(CombatEventBus.STATUS_DAMAGE, time, enemy, effect, damage);
+    }
+
+    /**
+     * Makes a timeline event happen.
+     * 
+     * @param event The event, whose time the clock has reached.
+     * @return False if the event killed the player.
+     */
+    private boolean fire(long event) {
+        int enemy = attacker(event);
+        int slot = slot(event);
+        ComboTable table = enemies.getComboTable(enemy);
+        switch (CombatTimeline.type(event)) {
+            case PHASE:
+                // A charging attack goes straight to a cool-down that ends the combo; a cool-down ends it now
+                if (enemies.isSlain(enemy)) break;
+                enemies.setPhase(enemy, 2);
+                if (comboEnd[enemy] < 0) break;
+                ending[enemy] = true;
+                timeline.cancel(pending[enemy]);
+                if (CombatTimeline.type(pending[enemy]) == IMPACT) {
+                    cool(enemy, slot(pending[enemy]));
+                } else {
+                    comboEnd[enemy] = -1;
+                    idle(enemy);
                 }
-                
-                totalTime = attack.getCoolDownTime();
-                while (totalTime > 0) {
-                    playerAction(topHp, topFp);
-                    
-                    if (boss.checkPhase()) {
-                        boss.setPhase(2);
-                        phaseChange = true;
-                        break;
-                    }
-                    
-                    totalTime -= getTimeTaken();
-                    setTimeTaken(0);
+                break;
+            case IMPACT:
+                speak("You were hit!");
+                player.setHp(player.getHp() - table.getDamage()[slot]);
+                publish(CombatEventBus.HIT_TAKEN, enemy, slot, table.getDamage()[slot]);
+                if (player.getHp() <= 0) return false;
+                cool(enemy, slot);
+                break;
+            case COOL_END:
+                if (ending[enemy] || slot + 1 == comboEnd[enemy]) {
+                    comboEnd[enemy] = -1;
+                    idle(enemy);
+                } else {
+                    charge(enemy, slot + 1);
                 }
-                if (phaseChange) break;
-            }
-            return 1; // Continue combat
+                break;
         }
-        return 1; // Continue combat
+        return true;
+    }
+
+    /**
+     * Starts charging an attack. Attacks with no charge-up never land.
+     * 
+     * @param enemy The attacking enemy.
+     * @param slot The attack's combo table slot.
+     */
+    private void charge(int enemy, int slot) {
+        int time = enemies.getComboTable(enemy).getChargeUp()[slot];
+        publish(CombatEventBus.ATTACK_CHARGE, enemy, slot, time);
+        if (time > 0) {
+            pending[enemy] = CombatTimeline.event(elapsedTime + time, IMPACT, enemy << SLOT_BITS | slot);
+            timeline.schedule(pending[enemy]);
+        } else {
+            cool(enemy, slot);
+        }
+    }
+
+    /**
+     * Starts an attack's cool-down from the current time.
+     * 
+     * @param enemy The attacking enemy.
+     * @param slot The attack's combo table slot.
+     */
+    private void cool(int enemy, int slot) {
+        int coolDown = enemies.getComboTable(enemy).getCoolDown()[slot];
+        pending[enemy] = CombatTimeline.event(elapsedTime + coolDown, COOL_END, enemy << SLOT_BITS | slot);
+        timeline.schedule(pending[enemy]);
+    }
+
+    /**
+     * Checks whether an enemy has reached its second phase and its phase change is not yet
+     * scheduled, printing the phase line when not headless.
+     * 
+     * @param enemy The enemy's index.
+     * @return True if the enemy should change phases.
+     */
+    private boolean phaseChanged(int enemy) {
+        if (phasing[enemy] || !enemies.reachedPhaseThreshold(enemy)) return false;
+        speak(enemies.getDefinition(enemy).getPhaseLine());
+        publish(CombatEventBus.PHASE_CHANGED, enemy, 2, enemies.getHp(enemy));
+        return true;
+    }
+
+    /**
+     * Schedules an enemy's phase change.
+     * 
+     * @param enemy The enemy's index.
+     * @param time The fight time the phase changes.
+     */
+    private void schedulePhase(int enemy, int time) {
+        phasing[enemy] = true;
+        timeline.schedule(CombatTimeline.event(time, PHASE, enemy << SLOT_BITS));
+    }
+
+    /**
+     * Gets the enemy a timeline event belongs to.
+     */
+    private static int attacker(long event) {
+        return CombatTimeline.data(event) >>> SLOT_BITS;
+    }
+
+    /**
+     * Gets the combo table slot of a timeline event's attack.
+     */
+    private static int slot(long event) {
+        return CombatTimeline.data(event) & (1 << SLOT_BITS) - 1;
+    }
+
+    /**
+     * Names an enemy for the console, with its number when there is more than one.
+     */
+    private String label(int enemy) {
+        return enemies.size() == 1 ? enemies.getName(enemy) : enemies.getName(enemy) + " " + (enemy + 1);
+    }
+
+    /**
+     * Prefixes a line with the enemy it belongs to when there is more than one.
+     */
+    private String named(int enemy, String line) {
+        return enemies.size() == 1 ? line : label(enemy) + ": " + line;
+    }
+
+    /**
+     * Publishes an event stamped with the current fight time, if a bus is set.
+     * 
+     * @param type The event type.
+     * @param enemy The enemy the event concerns, or -1.
+     * @param a The event's first argument.
+     * @param b The event's second argument.
+     */
+    private void publish(int type, int enemy, int a, int b) {
+        if (events != null) events.publish(type, elapsedTime, enemy, a, b);
+    }
+
+    /**
+     * Gets the total time the fight has lasted so far.
+     * 
+     * @return The elapsed time in seconds.
+     */
+    public int getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * Gets the number of decisions the player has made so far.
+     * 
+     * @return The number of decisions.
+     */
+    public int getDecisions() {
+        return decisions;
     }
 
     /**
@@ -235,17 +637,15 @@ public class Combat {
      * @param text The text to display.
      */
     public void speak(String text) {
-        Scanner input = new Scanner(System.in);
-        System.out.println(text);
-        input.nextLine();
-        clearScreen();
+        if (headless) return;
+        Console.get().speak(text);
     }
 
     /**
      * Clears the console screen.
      */
     public void clearScreen() {
-        System.out.print("\033[H\033[2J");
-        System.out.flush();
+        if (headless) return;
+        Console.get().clearScreen();
     }
 }
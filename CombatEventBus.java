@@ -0,0 +1,231 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A fixed-size ring buffer of combat events, written by one Combat and read by any number
+ * of subscribers on their own threads.
+ * Events are stored in preallocated primitive arrays, so publishing never allocates.
+ * The writer never waits for readers either: when a subscriber falls a whole ring behind,
+ * the oldest events are overwritten and the subscriber skips ahead, counting what it missed.
+ * Each slot carries the sequence number of the event in it, which readers check before and
+ * after copying the event out to detect a slot that was overwritten while they read it.
+ * Every event names the enemy it concerns by its index in the fight's Enemies, or -1 for
+ * events that concern the player or the fight as a whole.
+ */
+public class CombatEventBus {
+    public static final int COMBO_CHOSEN = 0; // a = combo index
+    public static final int ATTACK_CHARGE = 1; // a = attack slot, b = charge-up time
+    public static final int DODGE_ATTEMPTED = 2; // a = attack slot (-1 - slot in a cool-down), b = direction
+    public static final int DODGE_SUCCEEDED = 3; // a = attack slot, b = direction
+    public static final int HIT_TAKEN = 4; // a = attack slot, b = damage
+    public static final int DAMAGE_DEALT = 5; // a = attack type, b = damage
+    public static final int HEAL_USED = 6; // a = 1 for HP, 2 for FP, b = amount restored; no enemy
+    public static final int PHASE_CHANGED = 7; // a = new phase, b = enemy HP
+    public static final int FIGHT_ENDED = 8; // a = 1 for a win, 0 for a loss, b = player HP; no enemy
+    public static final int STATUS_DAMAGE = 9; // a = status effect, b = damage
+    public static final int ENEMY_SLAIN = 10; // a = enemies still standing, b = enemy HP
+
+    private static final String[] NAMES = {"combo chosen", "attack charge", "dodge attempted", "dodge succeeded",
+            "hit taken", "damage dealt", "heal used", "phase changed", "fight ended", "status damage", "enemy slain"};
+
+    private static final VarHandle SEQUENCES = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle PUBLISHED;
+
+    static {
+        try {
+            PUBLISHED = MethodHandles.lookup().findVarHandle(CombatEventBus.class, "published", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int mask; // Capacity minus one, for wrapping sequence numbers to slots
+    private final long[] sequences; // Sequence number of the event in each slot, or -1 while it is written
+    private final int[] types; // Event type of each slot
+    private final int[] times; // Fight time of each slot's event
+    private final int[] enemies; // Enemy each slot's event concerns, or -1
+    private final int[] firsts; // First argument of each slot's event
+    private final int[] seconds; // Second argument of each slot's event
+    private volatile long published; // Number of events published so far
+
+    /**
+     * Receives events from a subscriber. Takes primitives so delivery never allocates.
+     */
+    public interface Handler {
+        /**
+         * Handles one event.
+         *
+         * @param type The event type, one of the constants in CombatEventBus.
+         * @param time The fight time in seconds when the event happened.
+         * @param enemy The enemy the event concerns, or -1.
+         * @param a The event's first argument.
+         * @param b The event's second argument.
+         */
+        void onEvent(int type, int time, int enemy, int a, int b);
+    }
+
+    /**
+     * Creates an event bus.
+     *
+     * @param capacity The number of events kept before the oldest are overwritten, rounded up to a power of two.
+     */
+    public CombatEventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.mask = size - 1;
+        this.sequences = new long[size];
+        this.types = new int[size];
+        this.times = new int[size];
+        this.enemies = new int[size];
+        this.firsts = new int[size];
+        this.seconds = new int[size];
+        Arrays.fill(sequences, -1);
+    }
+
+    /**
+     * Publishes an event. Must only be called from the single producing thread.
+     *
+     * @param type The event type.
+     * @param time The fight time in seconds.
+     * @param enemy The enemy the event concerns, or -1.
+     * @param a The event's first argument.
+     * @param b The event's second argument.
+     */
+    public void publish(int type, int time, int enemy, int a, int b) {
+        long sequence = published;
+        int slot = (int) sequence & mask;
+        SEQUENCES.setOpaque(sequences, slot, -1L);
+        VarHandle.storeStoreFence();
+        types[slot] = type;
+        times[slot] = time;
+        enemies[slot] = enemy;
+        firsts[slot] = a;
+        seconds[slot] = b;
+        SEQUENCES.setRelease(sequences, slot, sequence);
+        PUBLISHED.setRelease(this, sequence + 1);
+    }
+
+    /**
+     * Gets the number of events published so far.
+     *
+     * @return The number of events.
+     */
+    public long getPublished() {
+        return published;
+    }
+
+    /**
+     * Creates a subscriber that starts with the next event published.
+     *
+     * @return A new subscriber.
+     */
+    public Subscriber subscribe() {
+        return new Subscriber(published);
+    }
+
+    /**
+     * Starts a daemon thread that delivers events to a handler until the thread is interrupted.
+     * Events already published when the thread is interrupted are still delivered.
+     *
+     * @param name The thread's name.
+     * @param handler The handler to deliver events to.
+     * @return The started thread.
+     */
+    public Thread subscribeOnThread(String name, Handler handler) {
+        Subscriber subscriber = subscribe();
+        Thread thread = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (subscriber.poll(handler, 256) == 0) {
+                    LockSupport.parkNanos(100_000);
+                }
+            }
+            while (subscriber.poll(handler, 256) > 0) {
+                // Drain what was published before the interrupt
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Gets a readable name for an event type.
+     *
+     * @param type The event type.
+     * @return The name of the event type.
+     */
+    public static String name(int type) {
+        return type >= 0 && type < NAMES.length ? NAMES[type] : "unknown";
+    }
+
+    /**
+     * One reader's position in the ring. A subscriber must only be polled by one thread at a time.
+     */
+    public class Subscriber {
+        private long cursor; // Sequence number of the next event to read
+        private long dropped; // Events overwritten before this subscriber read them
+
+        private Subscriber(long cursor) {
+            this.cursor = cursor;
+        }
+
+        /**
+         * Delivers the events published since the last poll, oldest first.
+         *
+         * @param handler The handler to deliver events to.
+         * @param max The most events to deliver in this call.
+         * @return The number of events delivered.
+         */
+        public int poll(Handler handler, int max) {
+            int delivered = 0;
+            while (delivered < max) {
+                int slot = (int) cursor & mask;
+                long before = (long) SEQUENCES.getAcquire(sequences, slot);
+                if (before != cursor) {
+                    if (before < cursor && (long) PUBLISHED.getAcquire(CombatEventBus.this) <= cursor) {
+                        break; // Nothing new yet
+                    }
+                    skipAhead();
+                    continue;
+                }
+
+                int type = types[slot];
+                int time = times[slot];
+                int enemy = enemies[slot];
+                int a = firsts[slot];
+                int b = seconds[slot];
+                VarHandle.loadLoadFence();
+                if ((long) SEQUENCES.getOpaque(sequences, slot) != cursor) {
+                    skipAhead(); // Overwritten while we read it
+                    continue;
+                }
+
+                cursor++;
+                delivered++;
+                handler.onEvent(type, time, enemy, a, b);
+            }
+            return delivered;
+        }
+
+        /**
+         * Moves the cursor to the oldest event still in the ring after falling behind.
+         */
+        private void skipAhead() {
+            long oldest = (long) PUBLISHED.getAcquire(CombatEventBus.this) - mask;
+            if (oldest > cursor) {
+                dropped += oldest - cursor;
+                cursor = oldest;
+            }
+        }
+
+        /**
+         * Gets the number of events this subscriber missed because it fell a whole ring behind.
+         *
+         * @return The number of dropped events.
+         */
+        public long getDropped() {
+            return dropped;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+/**
+ * Packs the full state of a fight into one non-negative long, for search and solver caches.
+ *
+ * A state holds the player's HP, FP and heals, the boss's HP and phase, the combo being
+ * played and the attack within it, whether that attack is charging or cooling down, the time
+ * left before it lands or its cool-down ends, and the time Combat has not yet counted from the
+ * action before a phase change. Each field gets just enough bits for the largest value the
+ * fight allows, so a codec is made for one player and boss and states from different codecs
+ * do not mix. Fields are packed from the player's HP in the high bits down to the pending
+ * time in the low bits, so states with the same HP sort together.
+ *
+ * HP, boss HP and FP below zero are stored as zero: a fight is over once either side is at
+ * zero, and nothing in combat reads FP. A field with a largest value of 0 takes no bits, which
+ * lets a caller leave out what it does not track by always passing 0 for it.
+ */
+public class CombatStateCodec {
+    public static final int CHARGE = 0; // The attack is charging
+    public static final int COOL = 1; // The attack's cool-down
+    public static final int ENDING = 2; // A cool-down after a phase change, which ends the combo
+
+    private static final int HP = 0; // Field numbers, from the high bits down
+    private static final int FP = 1;
+    private static final int HEALS = 2;
+    private static final int BOSS_HP = 3;
+    private static final int PHASE = 4;
+    private static final int COMBO = 5;
+    private static final int ATTACK = 6;
+    private static final int STAGE = 7;
+    private static final int TIME = 8;
+    private static final int PENDING = 9;
+    private static final int FIELDS = 10;
+    private static final String[] NAMES = {"HP", "FP", "heals", "boss HP", "phase - 1", "combo", "attack", "stage",
+            "time left", "pending time"}; // Field names for errors
+
+    private final ComboTable table; // The boss's attacks
+    private final int[] comboOf; // Combo index of each attack slot
+    private final int[] shift = new int[FIELDS]; // Position of each field's lowest bit
+    private final long[] mask = new long[FIELDS]; // Largest value each field's bits can hold
+    private final int bits; // Bits used by a whole state
+
+    /**
+     * Creates a codec sized for a fight between a player and a boss, both in their starting state.
+     *
+     * @param player The player, with the HP, FP, heals and weapon they start the fight with.
+     * @param boss The boss, at full health.
+     * @return The codec.
+     * @throws IllegalArgumentException If the state does not fit in 63 bits.
+     */
+    public static CombatStateCodec forFight(Player player, Boss boss) {
+        ComboTable table = boss.getComboTable();
+        int pending = 2; // Dodges and heals take 2
+        for (int type = 1; type <= 3; type++) pending = Math.max(pending, player.getAttackTime(type));
+        for (int slot = 0; slot < table.size(); slot++) {
+            pending = Math.max(pending, Math.max(table.getChargeUp()[slot], table.getCoolDown()[slot]));
+        }
+        return new CombatStateCodec(player.getHp(), player.getFp(), player.getHealingTotal(),
+                boss.getOriginalHp(), table, pending);
+    }
+
+    /**
+     * Creates a codec for states up to the given limits.
+     *
+     * @param maxHp The player's largest HP.
+     * @param maxFp The player's largest FP, or 0 to leave FP out.
+     * @param maxHeals The player's largest number of heals.
+     * @param maxBossHp The boss's largest HP.
+     * @param table The boss's attacks, which bound the combo, attack and time fields.
+     * @param maxPending The largest uncounted time, or 0 to leave it out.
+     * @throws IllegalArgumentException If the state does not fit in 63 bits.
+     */
+    public CombatStateCodec(int maxHp, int maxFp, int maxHeals, int maxBossHp, ComboTable table, int maxPending) {
+        this.table = table;
+        int combos = table.comboCount(1) + table.comboCount(2);
+        this.comboOf = new int[table.size()];
+        int longest = 0;
+        int maxTime = 0;
+        for (int combo = 0; combo < combos; combo++) {
+            longest = Math.max(longest, table.end(combo) - table.start(combo));
+            for (int slot = table.start(combo); slot < table.end(combo); slot++) {
+                comboOf[slot] = combo;
+                maxTime = Math.max(maxTime, Math.max(table.getChargeUp()[slot], table.getCoolDown()[slot]));
+            }
+        }
+
+        int[] largest = new int[FIELDS];
+        largest[HP] = maxHp;
+        largest[FP] = maxFp;
+        largest[HEALS] = maxHeals;
+        largest[BOSS_HP] = maxBossHp;
+        largest[PHASE] = 1;
+        largest[COMBO] = Math.max(0, combos - 1);
+        largest[ATTACK] = Math.max(0, longest - 1);
+        largest[STAGE] = ENDING;
+        largest[TIME] = maxTime;
+        largest[PENDING] = maxPending;
+
+        int used = 0;
+        for (int field = FIELDS - 1; field >= 0; field--) {
+            int width = 32 - Integer.numberOfLeadingZeros(Math.max(0, largest[field]));
+            shift[field] = used;
+            mask[field] = (1L << width) - 1;
+            used += width;
+        }
+        if (used > 63) {
+            throw new IllegalArgumentException("Fight state needs " + used + " bits, more than the 63 available");
+        }
+        this.bits = used;
+    }
+
+    /**
+     * Packs a state.
+     *
+     * @param hp The player's HP.
+     * @param fp The player's FP.
+     * @param heals The player's heals left.
+     * @param bossHp The boss's HP.
+     * @param phase The boss's phase, 1 or 2.
+     * @param slot The combo table slot of the attack being charged or cooling down.
+     * @param stage CHARGE, COOL or ENDING.
+     * @param timeLeft The time left before the attack lands or the cool-down ends.
+     * @param pending Time from the action before a phase change that Combat has not yet counted.
+     * @return The packed state, which is never negative.
+     * @throws IllegalArgumentException If a field does not fit in its bits, such as HP above the codec's largest HP.
+     */
+    public long encode(int hp, int fp, int heals, int bossHp, int phase, int slot, int stage, int timeLeft, int pending) {
+        checked("slot", slot, comboOf.length - 1);
+        int combo = comboOf[slot];
+        return pack(HP, Math.max(0, hp))
+                | pack(FP, Math.max(0, fp))
+                | pack(HEALS, heals)
+                | pack(BOSS_HP, Math.max(0, bossHp))
+                | pack(PHASE, phase - 1)
+                | pack(COMBO, combo)
+                | pack(ATTACK, slot - table.start(combo))
+                | pack(STAGE, stage)
+                | pack(TIME, timeLeft)
+                | pack(PENDING, pending);
+    }
+
+    /**
+     * Packs the state of a fight as a PlayerController sees it.
+     *
+     * @param player The player.
+     * @param boss The boss.
+     * @param attack The combo table slot of the attack the boss is charging, or -1 - slot during that attack's cool-down.
+     * @param timeLeft The time left before the attack lands or the cool-down ends.
+     * @param ending True during a cool-down that follows a phase change.
+     * @param pending Time from the action before a phase change that Combat has not yet counted.
+     * @return The packed state.
+     */
+    public long encode(Player player, Boss boss, int attack, int timeLeft, boolean ending, int pending) {
+        int stage = attack >= 0 ? CHARGE : ending ? ENDING : COOL;
+        return encode(player.getHp(), player.getFp(), player.getHealingTotal(), boss.getHp(), boss.getPhase(),
+                attack >= 0 ? attack : -1 - attack, stage, timeLeft, pending);
+    }
+
+    public int getHp(long state) {
+        return field(state, HP);
+    }
+
+    public int getFp(long state) {
+        return field(state, FP);
+    }
+
+    public int getHeals(long state) {
+        return field(state, HEALS);
+    }
+
+    public int getBossHp(long state) {
+        return field(state, BOSS_HP);
+    }
+
+    public int getPhase(long state) {
+        return field(state, PHASE) + 1;
+    }
+
+    /**
+     * Gets the combo being played.
+     *
+     * @param state A packed state.
+     * @return The combo index in the boss's combo table.
+     */
+    public int getCombo(long state) {
+        return field(state, COMBO);
+    }
+
+    /**
+     * Gets the attack being played within its combo.
+     *
+     * @param state A packed state.
+     * @return The attack's position in its combo, from 0.
+     */
+    public int getAttack(long state) {
+        return field(state, ATTACK);
+    }
+
+    /**
+     * Gets the combo table slot of the attack being played.
+     *
+     * @param state A packed state.
+     * @return The attack slot.
+     */
+    public int getSlot(long state) {
+        return table.start(getCombo(state)) + getAttack(state);
+    }
+
+    public int getStage(long state) {
+        return field(state, STAGE);
+    }
+
+    public int getTimeLeft(long state) {
+        return field(state, TIME);
+    }
+
+    public int getPending(long state) {
+        return field(state, PENDING);
+    }
+
+    /**
+     * Gets the number of bits a packed state uses.
+     *
+     * @return The bits, at most 63.
+     */
+    public int getBits() {
+        return bits;
+    }
+
+    private int field(long state, int field) {
+        return (int) (state >>> shift[field] & mask[field]);
+    }
+
+    /**
+     * Shifts a value into its field, checking that it fits the field's bits.
+     */
+    private long pack(int field, int value) {
+        return checked(NAMES[field], value, mask[field]) << shift[field];
+    }
+
+    /**
+     * Checks that a value to be packed into a state fits its field.
+     *
+     * @param name The field's name, for the error.
+     * @param value The value.
+     * @param largest The largest value the field holds.
+     * @return The value.
+     * @throws IllegalArgumentException If the value is negative or above the largest.
+     */
+    private static long checked(String name, long value, long largest) {
+        if (value < 0 || value > largest) {
+            throw new IllegalArgumentException(name + " " + value + " does not fit in a field holding 0-" + largest);
+        }
+        return value;
+    }
+}
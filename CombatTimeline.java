@@ -0,0 +1,126 @@
+import java.util.Arrays;
+
+/**
+ * The timed events of a fight, kept in order of when they happen.
+ * Each event is packed into one long, with its time in the high 32 bits, then its type and
+ * then its data, so events order by time and, at the same time, by type. The heap lives in a
+ * primitive array that only grows, so scheduling and polling never allocate once a fight has
+ * warmed up, and finding the next event is O(1) while adding or removing one is O(log n).
+ */
+public class CombatTimeline {
+    private static final long NONE = Long.MAX_VALUE; // Returned by peek when nothing is scheduled
+
+    private long[] heap = new long[8]; // Binary min-heap of packed events
+    private int size; // Number of scheduled events
+
+    /**
+     * Packs an event.
+     *
+     * @param time When the event happens, in fight seconds; must not be negative.
+     * @param type The event type, 0 to 255; lower types happen first at the same time.
+     * @param data The event's data, 0 to 2^24 - 1.
+     * @return The packed event.
+     */
+    public static long event(int time, int type, int data) {
+        return (long) time << 32 | (long) type << 24 | data;
+    }
+
+    public static int time(long event) {
+        return (int) (event >>> 32);
+    }
+
+    public static int type(long event) {
+        return (int) (event >>> 24) & 0xFF;
+    }
+
+    public static int data(long event) {
+        return (int) event & 0xFFFFFF;
+    }
+
+    /**
+     * Schedules an event.
+     *
+     * @param event The packed event.
+     */
+    public void schedule(long event) {
+        if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+        int at = size++;
+        while (at > 0) {
+            int parent = (at - 1) >>> 1;
+            if (heap[parent] <= event) break;
+            heap[at] = heap[parent];
+            at = parent;
+        }
+        heap[at] = event;
+    }
+
+    /**
+     * Gets the next event without removing it.
+     *
+     * @return The earliest event, or Long.MAX_VALUE if nothing is scheduled.
+     */
+    public long peek() {
+        return size == 0 ? NONE : heap[0];
+    }
+
+    /**
+     * Removes and returns the next event.
+     *
+     * @return The earliest event, or Long.MAX_VALUE if nothing is scheduled.
+     */
+    public long poll() {
+        if (size == 0) return NONE;
+        long first = heap[0];
+        removeAt(0);
+        return first;
+    }
+
+    /**
+     * Removes a scheduled event, such as an attack that was dodged before it landed.
+     *
+     * @param event The packed event.
+     * @return True if the event was scheduled.
+     */
+    public boolean cancel(long event) {
+        for (int i = 0; i < size; i++) {
+            if (heap[i] == event) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes every event.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Fills a hole in the heap with its last event.
+     */
+    private void removeAt(int at) {
+        long last = heap[--size];
+        if (at == size) return;
+        // The last event may belong above or below the hole
+        while (at > 0 && heap[(at - 1) >>> 1] > last) {
+            heap[at] = heap[(at - 1) >>> 1];
+            at = (at - 1) >>> 1;
+        }
+        while (true) {
+            int child = 2 * at + 1;
+            if (child >= size) break;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (heap[child] >= last) break;
+            heap[at] = heap[child];
+            at = child;
+        }
+        heap[at] = last;
+    }
+}
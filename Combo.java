@@ -2,17 +2,41 @@ import java.util.List;
 
 /**
  * Represents a sequence of attacks performed by a boss.
+ * A combo's weight sets how often the boss picks it relative to the other combos of its phase.
+ * The weight is multiplied by a factor while the boss is near its phase change (or, in phase 2,
+ * near death) and by another while the player's HP is in the middle or bottom third.
  */
 public class Combo {
     private List<Attack> attacks; // List of attacks in the combo
+    private double weight; // Relative chance of the boss picking this combo
+    private double bossNear; // Weight factor while the boss is near its phase change or death
+    private double playerMid; // Weight factor while the player is below two thirds of their HP
+    private double playerLow; // Weight factor while the player is below a third of their HP
 
     /**
-     * Creates a Combo instance with the given list of attacks.
+     * Creates a Combo instance with the given list of attacks and a weight of 1 in every situation.
      * 
      * @param attacks The list of attacks in this combo.
      */
     public Combo(List<Attack> attacks) {
+        this(attacks, 1, 1, 1, 1);
+    }
+
+    /**
+     * Creates a Combo instance with the given list of attacks and weights.
+     * 
+     * @param attacks The list of attacks in this combo.
+     * @param weight The relative chance of the boss picking this combo.
+     * @param bossNear The factor applied while the boss is near its phase change or death.
+     * @param playerMid The factor applied while the player is below two thirds of their HP.
+     * @param playerLow The factor applied while the player is below a third of their HP.
+     */
+    public Combo(List<Attack> attacks, double weight, double bossNear, double playerMid, double playerLow) {
         this.attacks = attacks;
+        this.weight = weight;
+        this.bossNear = bossNear;
+        this.playerMid = playerMid;
+        this.playerLow = playerLow;
     }
 
     /**
@@ -23,4 +47,32 @@ public class Combo {
     public List<Attack> getAttacks() {
         return attacks;
     }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public double getBossNear() {
+        return bossNear;
+    }
+
+    public double getPlayerMid() {
+        return playerMid;
+    }
+
+    public double getPlayerLow() {
+        return playerLow;
+    }
+
+    /**
+     * Gets this combo's weight in a situation.
+     * 
+     * @param bossNear True if the boss is near its phase change or death.
+     * @param playerBand 0 above two thirds of the player's HP, 1 above a third, 2 below.
+     * @return The weight.
+     */
+    public double getWeight(boolean bossNear, int playerBand) {
+        double factor = playerBand == 2 ? playerLow : playerBand == 1 ? playerMid : 1;
+        return weight * factor * (bossNear ? this.bossNear : 1);
+    }
 }
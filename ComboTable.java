@@ -0,0 +1,278 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * A boss's combos flattened into parallel primitive arrays for the combat loop.
+ * Every attack of every combo gets one slot; phase 1 combos come first, then phase 2.
+ * The attacks of combo c occupy slots start(c) up to (but not including) end(c).
+ * Display text is kept in a separate array that only interactive combat reads.
+ *
+ * Combos are picked by weight, and the weights depend on the situation: whether the boss is
+ * near its phase change (or near death in phase 2) and which third of their HP the player is in.
+ * Each phase has a Walker alias table per situation, built once, so picking a combo takes two
+ * random numbers and no allocation however many combos there are. Situations where every
+ * combo has the same weight pick with a single nextInt, exactly as uniform picking always has.
+ */
+public class ComboTable {
+    public static final int SITUATIONS = 6; // Two boss HP bands times three player HP bands
+
+    private int[] chargeUp; // Charge-up time of each attack
+    private int[] coolDown; // Cool-down time of each attack
+    private int[] damage; // Damage of each attack
+    private int[] dodgeMask; // Bit d set when dodge direction d (0-3) avoids the attack
+    private int[] comboStart; // First attack slot of each combo, plus one past the last slot
+    private int phase1Combos; // Number of phase 1 combos
+    private int phase2Combos; // Number of phase 2 combos
+    private String[] lines; // Text shown while each attack charges
+    private double[] probability; // Chance of each combo in each phase and situation
+    private double[] aliasChance; // Chance of keeping the drawn combo rather than taking its alias
+    private int[] alias; // The combo taken instead of the drawn one, as a position in its phase
+    private boolean[] uniform; // Whether every combo is equally likely, per phase and situation
+
+    /**
+     * Flattens the combos of both phases.
+     *
+     * @param combos1 The combos available in phase 1.
+     * @param combos2 The combos available in phase 2.
+     */
+    public ComboTable(List<Combo> combos1, List<Combo> combos2) {
+        int attacks = 0;
+        for (Combo combo : combos1) attacks += combo.getAttacks().size();
+        for (Combo combo : combos2) attacks += combo.getAttacks().size();
+
+        this.chargeUp = new int[attacks];
+        this.coolDown = new int[attacks];
+        this.damage = new int[attacks];
+        this.dodgeMask = new int[attacks];
+        this.lines = new String[attacks];
+        this.comboStart = new int[combos1.size() + combos2.size() + 1];
+        this.phase1Combos = combos1.size();
+        this.phase2Combos = combos2.size();
+
+        int slot = 0;
+        int index = 0;
+        for (List<Combo> phase : List.of(combos1, combos2)) {
+            for (Combo combo : phase) {
+                comboStart[index++] = slot;
+                for (Attack attack : combo.getAttacks()) {
+                    chargeUp[slot] = attack.getChargeUpTime();
+                    coolDown[slot] = attack.getCoolDownTime();
+                    damage[slot] = attack.getDamage();
+                    for (int direction : attack.getDodgeDirections()) {
+                        dodgeMask[slot] |= 1 << direction;
+                    }
+                    lines[slot] = attack.getLine();
+                    slot++;
+                }
+            }
+        }
+        comboStart[index] = slot;
+
+        int entries = SITUATIONS * (phase1Combos + phase2Combos);
+        this.probability = new double[entries];
+        this.aliasChance = new double[entries];
+        this.alias = new int[entries];
+        this.uniform = new boolean[2 * SITUATIONS];
+        for (int phase = 1; phase <= 2; phase++) {
+            List<Combo> combos = phase == 1 ? combos1 : combos2;
+            for (int situation = 0; situation < SITUATIONS; situation++) {
+                double[] weights = new double[combos.size()];
+                for (int i = 0; i < weights.length; i++) {
+                    weights[i] = combos.get(i).getWeight(situation / 3 == 1, situation % 3);
+                }
+                buildAlias(weights, offset(phase, situation));
+                uniform[(phase - 1) * SITUATIONS + situation] = Arrays.stream(weights).allMatch(w -> w == weights[0]);
+            }
+        }
+    }
+
+    /**
+     * Builds one alias table with Vose's method: scaled so the average is 1, each position is
+     * paired with at most one position that tops it up, so a uniform draw and one coin flip
+     * pick every combo with exactly its probability.
+     */
+    private void buildAlias(double[] weights, int offset) {
+        int count = weights.length;
+        double total = 0;
+        for (double weight : weights) total += weight;
+        if (!(total > 0)) {
+            // BossPackCompiler rejects such data files; this catches combos built in code
+            throw new IllegalArgumentException("Every combo of a phase has weight 0 in some situation");
+        }
+
+        double[] scaled = new double[count];
+        int[] small = new int[count];
+        int[] large = new int[count];
+        int smalls = 0;
+        int larges = 0;
+        for (int i = 0; i < count; i++) {
+            probability[offset + i] = weights[i] / total;
+            scaled[i] = weights[i] / total * count;
+            if (scaled[i] < 1) small[smalls++] = i;
+            else large[larges++] = i;
+        }
+        while (smalls > 0 && larges > 0) {
+            int less = small[--smalls];
+            int more = large[--larges];
+            aliasChance[offset + less] = scaled[less];
+            alias[offset + less] = more;
+            scaled[more] += scaled[less] - 1;
+            if (scaled[more] < 1) small[smalls++] = more;
+            else large[larges++] = more;
+        }
+        // What is left is 1 up to rounding
+        while (larges > 0) aliasChance[offset + large[--larges]] = 1;
+        while (smalls > 0) aliasChance[offset + small[--smalls]] = 1;
+    }
+
+    /**
+     * Gets where a phase and situation's entries start in the alias arrays.
+     */
+    private int offset(int phase, int situation) {
+        return phase == 1 ? situation * phase1Combos : SITUATIONS * phase1Combos + situation * phase2Combos;
+    }
+
+    /**
+     * Works out the situation that sets the combo weights.
+     *
+     * @param phase The boss's phase, 1 or 2.
+     * @param bossHp The boss's HP.
+     * @param bossTopHp The boss's HP at the start of the fight.
+     * @param playerHp The player's HP.
+     * @param playerTopHp The player's HP at the start of the fight.
+     * @return The situation, from 0 to SITUATIONS - 1.
+     */
+    public static int situation(int phase, int bossHp, int bossTopHp, int playerHp, int playerTopHp) {
+        // Near means within 15% of full HP of the phase change, or under a quarter of full HP in phase 2
+        boolean near = phase == 1 ? (long) (bossHp - Boss.phaseThreshold(bossTopHp)) * 20 <= (long) bossTopHp * 3
+                : (long) bossHp * 4 <= bossTopHp;
+        int band = (long) playerHp * 3 < playerTopHp ? 2 : (long) playerHp * 3 < (long) playerTopHp * 2 ? 1 : 0;
+        return (near ? 3 : 0) + band;
+    }
+
+    /**
+     * Picks a combo for a phase and situation by weight, in constant time and without allocating.
+     *
+     * @param phase 1 or 2.
+     * @param situation The situation, from situation().
+     * @param random The random number generator to draw from.
+     * @return The combo index.
+     */
+    public int choose(int phase, int situation, RandomGenerator random) {
+        int count = comboCount(phase);
+        int drawn = random.nextInt(count);
+        if (uniform[(phase - 1) * SITUATIONS + situation]) return comboIndex(phase, drawn);
+        int entry = offset(phase, situation) + drawn;
+        return comboIndex(phase, random.nextDouble() < aliasChance[entry] ? drawn : alias[entry]);
+    }
+
+    /**
+     * Gets the chance of a combo being picked in a situation.
+     *
+     * @param phase 1 or 2.
+     * @param situation The situation, from situation().
+     * @param combo The combo's position in that phase's list.
+     * @return The probability.
+     */
+    public double probability(int phase, int situation, int combo) {
+        return probability[offset(phase, situation) + combo];
+    }
+
+    /**
+     * Gets the number of combos available in a phase.
+     *
+     * @param phase 1 or 2.
+     * @return The number of combos.
+     */
+    public int comboCount(int phase) {
+        return phase == 1 ? phase1Combos : phase2Combos;
+    }
+
+    /**
+     * Converts a combo's position within its phase into a combo index for this table.
+     *
+     * @param phase 1 or 2.
+     * @param combo The combo's position in that phase's list.
+     * @return The combo index.
+     */
+    public int comboIndex(int phase, int combo) {
+        return phase == 1 ? combo : phase1Combos + combo;
+    }
+
+    /**
+     * Gets the first attack slot of a combo.
+     *
+     * @param combo The combo index.
+     * @return The slot of the combo's first attack.
+     */
+    public int start(int combo) {
+        return comboStart[combo];
+    }
+
+    /**
+     * Gets the slot just past the last attack of a combo.
+     *
+     * @param combo The combo index.
+     * @return The slot after the combo's last attack.
+     */
+    public int end(int combo) {
+        return comboStart[combo + 1];
+    }
+
+    public int[] getChargeUp() {
+        return chargeUp;
+    }
+
+    public int[] getCoolDown() {
+        return coolDown;
+    }
+
+    public int[] getDamage() {
+        return damage;
+    }
+
+    public int[] getDodgeMask() {
+        return dodgeMask;
+    }
+
+    /**
+     * Checks whether dodging in a direction avoids an attack.
+     *
+     * @param slot The attack slot.
+     * @param direction The dodge direction as chosen by the player: 1 (Forward) to 4 (Left).
+     * @return True if the direction is safe.
+     */
+    public boolean isSafe(int slot, int direction) {
+        return direction >= 1 && direction <= 4 && (dodgeMask[slot] & (1 << (direction - 1))) != 0;
+    }
+
+    /**
+     * Gets a safe dodge direction for an attack.
+     *
+     * @param slot The attack slot.
+     * @return The first safe direction as chosen by the player: 1 (Forward) to 4 (Left).
+     */
+    public int safeDirection(int slot) {
+        return Integer.numberOfTrailingZeros(dodgeMask[slot]) + 1;
+    }
+
+    /**
+     * Gets the text shown while an attack charges. Only read in interactive combat.
+     *
+     * @param slot The attack slot.
+     * @return The attack's text.
+     */
+    public String getLine(int slot) {
+        return lines[slot];
+    }
+
+    /**
+     * Gets the total number of attack slots.
+     *
+     * @return The number of attacks across all combos.
+     */
+    public int size() {
+        return chargeUp.length;
+    }
+}
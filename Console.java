@@ -0,0 +1,168 @@
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.Scanner;
+
+/**
+ * The game's console. All input goes through one Scanner and all output
+ * through one buffered writer, which is flushed only when the game waits for input.
+ * Each thread plays on its own console, standard input and output unless another is set,
+ * so several scripted games can run side by side in one JVM.
+ */
+public class Console {
+    private static final Console STANDARD = new Console(System.in, System.out);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(STANDARD::flush)); // Send the last screen clear on exit
+    }
+
+    private static final ThreadLocal<Console> CURRENT = ThreadLocal.withInitial(() -> STANDARD); // Console of each thread
+
+    private Scanner input; // The only reader of the input stream
+    private PrintWriter output; // Buffered writer for all game text
+    private boolean scripted; // True when input comes from a script, so nobody needs to press Enter or see the screen cleared
+
+    /**
+     * Creates a console over the given streams.
+     *
+     * @param in The stream to read player input from.
+     * @param out The stream to write game text to.
+     */
+    public Console(InputStream in, OutputStream out) {
+        this(in, out, false);
+    }
+
+    /**
+     * Creates a console over the given streams.
+     *
+     * @param in The stream to read player input from.
+     * @param out The stream to write game text to.
+     * @param scripted True if the input is a script, which skips Enter waits and screen clears.
+     */
+    public Console(InputStream in, OutputStream out, boolean scripted) {
+        this.scripted = scripted;
+        this.input = new Scanner(in);
+        this.output = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out, Charset.defaultCharset()), 1 << 16));
+    }
+
+    /**
+     * Gets the console the game is using.
+     *
+     * @return The current thread's console, by default the one over standard input and output.
+     */
+    public static Console get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Sets the console the current thread's game uses.
+     *
+     * @param console The console, or null to go back to standard input and output.
+     */
+    public static void set(Console console) {
+        if (console == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(console);
+        }
+    }
+
+    /**
+     * Writes text without a line break.
+     *
+     * @param text The text to write.
+     */
+    public void print(String text) {
+        output.print(text);
+    }
+
+    /**
+     * Writes text followed by a line break.
+     *
+     * @param text The text to write.
+     */
+    public void println(String text) {
+        output.println(text);
+    }
+
+    /**
+     * Writes the start of a character array without a line break.
+     * Lets a caller build text in a reused buffer instead of allocating a String.
+     *
+     * @param text The characters to write.
+     * @param length The number of characters to write.
+     */
+    public void print(char[] text, int length) {
+        output.write(text, 0, length);
+    }
+
+    /**
+     * Writes a line break.
+     */
+    public void println() {
+        output.println();
+    }
+
+    /**
+     * Sends any buffered text to the terminal.
+     */
+    public void flush() {
+        output.flush();
+    }
+
+    /**
+     * Flushes pending text and reads the rest of the current line.
+     *
+     * @return The line read, without the line break.
+     */
+    public String nextLine() {
+        output.flush();
+        return input.nextLine();
+    }
+
+    /**
+     * Flushes pending text and reads the next integer.
+     *
+     * @return The integer read.
+     * @throws java.util.InputMismatchException If the next token is not an integer.
+     */
+    public int nextInt() {
+        output.flush();
+        return input.nextInt();
+    }
+
+    /**
+     * Reads and discards the next token, used to skip invalid input.
+     *
+     * @return The token read.
+     */
+    public String next() {
+        return input.next();
+    }
+
+    /**
+     * Prints the given text and waits for the player to press Enter before clearing the screen.
+     * A scripted console only prints the text.
+     *
+     * @param text The text to display.
+     */
+    public void speak(String text) {
+        output.println(text);
+        if (scripted) return;
+        nextLine();
+        clearScreen();
+    }
+
+    /**
+     * Clears the console screen using ANSI escape codes.
+     * The escape codes are sent with the next prompt rather than flushed straight away.
+     * A scripted console leaves the screen alone.
+     */
+    public void clearScreen() {
+        if (scripted) return;
+        output.print("\033[H\033[2J");
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Reads the player's combat decisions from the console.
+ */
+public class ConsolePlayerController implements PlayerController {
+
+    @Override
+    public int chooseAction(Player player, Enemies enemies, int enemy, int attack, int timeLeft) {
+        Console console = Console.get();
+        console.println("Choose an action:\n1) Attack\n2) Dodge\n3) Heal\n4) Wait\n");
+        int action = console.nextInt();
+        console.nextLine();
+        return action;
+    }
+
+    @Override
+    public int chooseAttack(Player player, Enemies enemies) {
+        Console.get().println("Choose an attack:\n1) Light\n2) Heavy\n3) Special\n");
+        return Console.get().nextInt();
+    }
+
+    @Override
+    public int chooseTarget(Player player, Enemies enemies) {
+        StringBuilder menu = new StringBuilder("Choose a target:\n");
+        for (int e = 0; e < enemies.size(); e++) {
+            if (!enemies.isSlain(e)) {
+                menu.append(e + 1).append(") ").append(enemies.getName(e)).append(" (").append(enemies.getHp(e)).append(" HP)\n");
+            }
+        }
+        Console.get().println(menu.toString());
+        return Console.get().nextInt() - 1;
+    }
+
+    @Override
+    public int chooseDodge(Enemies enemies, int enemy, int attack) {
+        Console.get().println("Choose a direction:\n1) Forward\n2) Backward\n3) Right\n4) Left\n");
+        return Console.get().nextInt();
+    }
+
+    @Override
+    public int chooseHealTarget(Player player) {
+        Console.get().println("What are you healing?\n1) Hp\n2) Fp\n");
+        return Console.get().nextInt();
+    }
+
+    @Override
+    public int chooseWaitTime(int attack, int timeLeft) {
+        Console.get().println("How Long?\n");
+        return Console.get().nextInt();
+    }
+}
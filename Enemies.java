@@ -0,0 +1,265 @@
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The enemies of one fight: a single boss, a duo, a boss with adds, or a horde of thousands.
+ *
+ * Enemies are entities in the entity-component-system sense. An enemy is only an index, and
+ * each component is a primitive array indexed by it: its kind, HP, phase and whether it has
+ * been slain. Everything two enemies of the same kind share, their definition with its combo
+ * table and starting HP, is stored once per kind. What each enemy is doing in a fight, its
+ * combo cursor and pending attack, is kept the same way by Combat. An enemy keeps its index
+ * for the whole fight, so slain enemies stay in the arrays and are skipped.
+ *
+ * A Boss is a group of one, so a fight against a single boss and a fight against a horde are
+ * the same fight to Combat. Combos for every enemy come from one random number generator,
+ * which Combat seeds so that the same seed and decisions always give the same fight.
+ *
+ * Some bosses are several fighters sharing one HP pool in the boss data, such as the Godskin
+ * Duo. Spawned by name they split into that many enemies with an equal share of the HP, each
+ * playing the boss's combos on its own, so the duo fights as two.
+ */
+public class Enemies {
+    private static final Map<String, Integer> FIGHTERS = Map.of("GodskinDuo", 2); // Fighters in bosses that share one HP pool
+
+    // Kinds of enemy, shared by every enemy of the kind
+    private BossDefinition[] kinds; // Definition of each kind
+    private int kindCount; // Kinds in use
+
+    // Components, one entry per enemy
+    private int[] kind; // Kind of each enemy
+    private int[] hp; // HP of each enemy
+    private int[] phase; // Phase of each enemy, 1 or 2
+    private boolean[] slain; // Whether each enemy has been slain
+    private int count; // Enemies spawned
+    private int remaining; // Enemies not yet slain
+
+    private RandomGenerator random; // Random number generator for selecting every enemy's combos
+
+    /**
+     * Creates a fight with no enemies yet.
+     */
+    public Enemies() {
+        this(16);
+    }
+
+    /**
+     * Creates a fight with no enemies yet and room for some without growing.
+     *
+     * @param capacity The number of enemies to make room for.
+     */
+    public Enemies(int capacity) {
+        this.kinds = new BossDefinition[1];
+        this.kind = new int[capacity];
+        this.hp = new int[capacity];
+        this.phase = new int[capacity];
+        this.slain = new boolean[capacity];
+        this.random = new SplittableRandom();
+    }
+
+    /**
+     * Adds enemies at full health in phase 1.
+     *
+     * @param definition The boss the enemies are copies of.
+     * @param copies The number of enemies to add.
+     * @return The index of the first enemy added.
+     */
+    public int spawn(BossDefinition definition, int copies) {
+        int k = 0;
+        while (k < kindCount && kinds[k] != definition) k++;
+        if (k == kindCount) {
+            if (kindCount == kinds.length) kinds = Arrays.copyOf(kinds, kindCount * 2);
+            kinds[kindCount++] = definition;
+        }
+        if (count + copies > hp.length) grow(Math.max(count + copies, hp.length * 2));
+        int first = count;
+        for (int i = 0; i < copies; i++) {
+            int e = count++;
+            kind[e] = k;
+            hp[e] = definition.getHp();
+            phase[e] = 1;
+            slain[e] = false;
+        }
+        remaining += copies;
+        return first;
+    }
+
+    /**
+     * Adds enemies by boss name with an optional copy count, e.g. Margit*2000. A boss that is
+     * several fighters sharing one HP pool is split into one enemy per fighter.
+     *
+     * @param spec The boss name, optionally followed by '*' and the number of copies.
+     * @return The number of enemies added.
+     * @throws IllegalArgumentException If there is no boss with that name or the count is not positive.
+     */
+    public int spawn(String spec) {
+        int star = spec.indexOf('*');
+        String name = star < 0 ? spec : spec.substring(0, star);
+        int copies = star < 0 ? 1 : Integer.parseInt(spec.substring(star + 1));
+        if (copies < 1) {
+            throw new IllegalArgumentException("Need at least one " + name + ", got " + copies);
+        }
+        BossDefinition definition = BossPack.load(name);
+        int fighters = FIGHTERS.getOrDefault(definition.getName(), 1);
+        if (fighters > 1) {
+            definition = new BossDefinition(definition.getName(), definition.getHp() / fighters, definition.getRunes(),
+                    definition.getWinLine(), definition.getPhaseLine(), definition.getDeathLine(),
+                    definition.getCombos1(), definition.getCombos2());
+        }
+        spawn(definition, copies * fighters);
+        return copies * fighters;
+    }
+
+    /**
+     * Gets the number of enemies in the fight, slain or not.
+     *
+     * @return The number of enemies spawned.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the number of enemies not yet slain.
+     *
+     * @return The number of enemies still standing.
+     */
+    public int getRemaining() {
+        return remaining;
+    }
+
+    /**
+     * Checks whether an enemy has been slain.
+     *
+     * @param enemy The enemy's index.
+     * @return True once the enemy has been slain.
+     */
+    public boolean isSlain(int enemy) {
+        return slain[enemy];
+    }
+
+    /**
+     * Marks an enemy as slain. It takes no further part in the fight.
+     *
+     * @param enemy The enemy's index.
+     */
+    public void slay(int enemy) {
+        if (!slain[enemy]) {
+            slain[enemy] = true;
+            remaining--;
+        }
+    }
+
+    /**
+     * Gets the shared content an enemy was created from.
+     *
+     * @param enemy The enemy's index.
+     * @return The enemy's definition.
+     */
+    public BossDefinition getDefinition(int enemy) {
+        return kinds[kind[enemy]];
+    }
+
+    public String getName(int enemy) {
+        return kinds[kind[enemy]].getName();
+    }
+
+    public ComboTable getComboTable(int enemy) {
+        return kinds[kind[enemy]].getComboTable();
+    }
+
+    public int getOriginalHp(int enemy) {
+        return kinds[kind[enemy]].getHp();
+    }
+
+    public int getHp(int enemy) {
+        return hp[enemy];
+    }
+
+    public void setHp(int enemy, int hp) {
+        this.hp[enemy] = hp;
+    }
+
+    /**
+     * Reduces an enemy's HP.
+     *
+     * @param enemy The enemy's index.
+     * @param num The amount of HP to take.
+     * @return The amount of HP lost.
+     */
+    public int loseHp(int enemy, int num) {
+        hp[enemy] -= num;
+        return num;
+    }
+
+    /**
+     * Gets the HP of every enemy added together, slain or not.
+     *
+     * @return The total HP, which counts HP below zero.
+     */
+    public long getTotalHp() {
+        long total = 0;
+        for (int e = 0; e < count; e++) total += hp[e];
+        return total;
+    }
+
+    public int getPhase(int enemy) {
+        return phase[enemy];
+    }
+
+    public void setPhase(int enemy, int phase) {
+        this.phase[enemy] = phase;
+    }
+
+    /**
+     * Checks whether an enemy should change phases.
+     *
+     * @param enemy The enemy's index.
+     * @return True if the enemy's HP is at or below the phase threshold and it is still in phase 1.
+     */
+    public boolean reachedPhaseThreshold(int enemy) {
+        return phase[enemy] == 1 && hp[enemy] <= Boss.phaseThreshold(getOriginalHp(enemy));
+    }
+
+    /**
+     * Seeds the random number generator used to choose every enemy's combos, so a fight can be reproduced.
+     *
+     * @param seed The seed for combo selection.
+     */
+    public void setSeed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Randomly selects one of the combos for an enemy's current phase by weight, with the
+     * weights for the enemy's and the player's health.
+     *
+     * @param enemy The enemy's index.
+     * @param playerHp The player's HP.
+     * @param playerTopHp The player's HP at the start of the fight.
+     * @return The selected combo's index in the enemy's combo table.
+     */
+    public int chooseComboIndex(int enemy, int playerHp, int playerTopHp) {
+        return chooseComboIndex(enemy, phase[enemy], playerHp, playerTopHp);
+    }
+
+    /**
+     * Randomly selects one of the combos of a phase by weight.
+     */
+    int chooseComboIndex(int enemy, int phase, int playerHp, int playerTopHp) {
+        int situation = ComboTable.situation(phase, hp[enemy], getOriginalHp(enemy), playerHp, playerTopHp);
+        return getComboTable(enemy).choose(phase, situation, random);
+    }
+
+    /**
+     * Grows every component array to a new capacity.
+     */
+    private void grow(int capacity) {
+        kind = Arrays.copyOf(kind, capacity);
+        hp = Arrays.copyOf(hp, capacity);
+        phase = Arrays.copyOf(phase, capacity);
+        slain = Arrays.copyOf(slain, capacity);
+    }
+}
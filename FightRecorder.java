@@ -0,0 +1,89 @@
+import java.util.Arrays;
+
+/**
+ * Wraps a PlayerController and records every decision it makes, in order.
+ * Together with the fight's seed this is enough to replay the fight exactly.
+ */
+public class FightRecorder implements PlayerController {
+    static final byte ACTION = 0;
+    static final byte ATTACK = 1;
+    static final byte DODGE = 2;
+    static final byte HEAL = 3;
+    static final byte WAIT = 4;
+    static final byte TARGET = 5;
+
+    private PlayerController controller; // The controller making the real decisions
+    private byte[] kinds; // Which question each decision answered
+    private int[] values; // The answer to each question
+    private int size; // Number of decisions recorded
+
+    /**
+     * Creates a recorder around a controller.
+     *
+     * @param controller The controller whose decisions are recorded.
+     */
+    public FightRecorder(PlayerController controller) {
+        this.controller = controller;
+        this.kinds = new byte[64];
+        this.values = new int[64];
+    }
+
+    @Override
+    public int chooseAction(Player player, Enemies enemies, int enemy, int attack, int timeLeft) {
+        return record(ACTION, controller.chooseAction(player, enemies, enemy, attack, timeLeft));
+    }
+
+    @Override
+    public int chooseAttack(Player player, Enemies enemies) {
+        return record(ATTACK, controller.chooseAttack(player, enemies));
+    }
+
+    @Override
+    public int chooseTarget(Player player, Enemies enemies) {
+        return record(TARGET, controller.chooseTarget(player, enemies));
+    }
+
+    @Override
+    public int chooseDodge(Enemies enemies, int enemy, int attack) {
+        return record(DODGE, controller.chooseDodge(enemies, enemy, attack));
+    }
+
+    @Override
+    public int chooseHealTarget(Player player) {
+        return record(HEAL, controller.chooseHealTarget(player));
+    }
+
+    @Override
+    public int chooseWaitTime(int attack, int timeLeft) {
+        return record(WAIT, controller.chooseWaitTime(attack, timeLeft));
+    }
+
+    private int record(byte kind, int value) {
+        if (size == values.length) {
+            kinds = Arrays.copyOf(kinds, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        kinds[size] = kind;
+        values[size] = value;
+        size++;
+        return value;
+    }
+
+    /**
+     * Gets the kind of each recorded decision.
+     *
+     * @return A copy of the decision kinds.
+     */
+    public byte[] getKinds() {
+        return Arrays.copyOf(kinds, size);
+    }
+
+    /**
+     * Gets the value of each recorded decision.
+     *
+     * @return A copy of the decision values.
+     */
+    public int[] getValues() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,255 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Everything needed to replay a fight: the boss, or the enemies of a horde fight, the seed
+ * for their combo choices, the player's state going in, every decision the player made and
+ * how it ended.
+ */
+public class FightRecording {
+    private static final int MAGIC = 0x45524652; // "ERFR"
+    private static final short VERSION = 4; // 2: bosses draw combos from SplittableRandom; 3: weapon status effects; 4: hordes
+
+    private String boss; // Name of the boss fought, or the enemy specs of a horde separated by spaces
+    private boolean horde; // True when boss holds a horde's enemy specs
+    private long seed; // Seed for the boss's combo choices
+    private int hp; // Player HP at the start
+    private int fp; // Player FP at the start
+    private int healingTotal; // Player heals at the start
+    private int[] stats; // Player stats
+    private Weapon weapon; // Copy of the player's weapon
+    private byte[] kinds; // Which question each decision answered
+    private int[] values; // The answer to each decision
+    private boolean won; // Whether the player won
+    private int elapsedTime; // Fight length in seconds
+    private int playerHp; // Player HP at the end
+    private long bossHp; // Boss HP at the end, or the HP of every enemy in a horde added together
+
+    private FightRecording() {
+    }
+
+    /**
+     * Captures the state of a fight that is about to start.
+     *
+     * @param player The player, before the fight.
+     * @param boss The boss, at full health.
+     * @param seed The seed the fight will use.
+     * @return A recording with no decisions or outcome yet.
+     */
+    public static FightRecording begin(Player player, Boss boss, long seed) {
+        return begin(player, boss.getName(), false, seed);
+    }
+
+    /**
+     * Captures the state of a horde fight that is about to start.
+     *
+     * @param player The player, before the fight.
+     * @param enemies The enemy specs the horde was spawned from, e.g. Margit*3, in order.
+     * @param seed The seed the fight will use.
+     * @return A recording with no decisions or outcome yet.
+     */
+    public static FightRecording begin(Player player, List<String> enemies, long seed) {
+        return begin(player, String.join(" ", enemies), true, seed);
+    }
+
+    private static FightRecording begin(Player player, String boss, boolean horde, long seed) {
+        FightRecording recording = new FightRecording();
+        recording.boss = boss;
+        recording.horde = horde;
+        recording.seed = seed;
+        recording.hp = player.getHp();
+        recording.fp = player.getFp();
+        recording.healingTotal = player.getHealingTotal();
+        recording.stats = Arrays.copyOf(player.getStats(), player.getStats().length);
+        recording.weapon = player.getHand().copy();
+        return recording;
+    }
+
+    /**
+     * Stores the decisions and outcome of the finished fight.
+     *
+     * @param recorder The recorder that wrapped the player's controller.
+     * @param combat The finished combat.
+     * @param won Whether the player won.
+     * @param player The player after the fight.
+     * @param enemies The boss or horde after the fight.
+     */
+    public void finish(FightRecorder recorder, Combat combat, boolean won, Player player, Enemies enemies) {
+        this.kinds = recorder.getKinds();
+        this.values = recorder.getValues();
+        this.won = won;
+        this.elapsedTime = combat.getElapsedTime();
+        this.playerHp = player.getHp();
+        this.bossHp = enemies.getTotalHp();
+    }
+
+    /**
+     * Creates the enemies of the recorded fight at the start of it.
+     *
+     * @return The boss, or the horde spawned from the recorded specs.
+     */
+    public Enemies newEnemies() {
+        if (!horde) return Bosses.create(boss);
+        Enemies enemies = new Enemies();
+        for (String spec : boss.split(" ")) enemies.spawn(spec);
+        return enemies;
+    }
+
+    /**
+     * Creates a player in the same state as the recorded player before the fight.
+     *
+     * @return A fresh player.
+     */
+    public Player newPlayer() {
+        Player player = new Player("Replay");
+        player.setStats(Arrays.copyOf(stats, stats.length));
+        player.setHand(weapon.copy());
+        player.setHp(hp);
+        player.setFp(fp);
+        player.setHealingTotal(healingTotal);
+        return player;
+    }
+
+    public String getBoss() {
+        return boss;
+    }
+
+    public boolean isHorde() {
+        return horde;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public byte[] getKinds() {
+        return kinds;
+    }
+
+    public int[] getValues() {
+        return values;
+    }
+
+    public boolean isWon() {
+        return won;
+    }
+
+    public int getElapsedTime() {
+        return elapsedTime;
+    }
+
+    public int getPlayerHp() {
+        return playerHp;
+    }
+
+    public long getBossHp() {
+        return bossHp;
+    }
+
+    /**
+     * Writes the recording to a file.
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeUTF(boss);
+            out.writeBoolean(horde);
+            out.writeLong(seed);
+            out.writeInt(hp);
+            out.writeInt(fp);
+            out.writeInt(healingTotal);
+            out.writeByte(stats.length);
+            for (int stat : stats) out.writeInt(stat);
+
+            out.writeUTF(weapon.getName());
+            out.writeUTF(weapon.getLight());
+            out.writeUTF(weapon.getHeavy());
+            out.writeUTF(weapon.getSpecial());
+            out.writeByte(weapon.getScaling().length);
+            for (double scale : weapon.getScaling()) out.writeDouble(scale);
+            out.writeInt(weapon.getPrice());
+            out.writeInt(weapon.getDamage());
+            out.writeInt(weapon.getTime());
+            out.writeInt(weapon.getLevel());
+            out.writeInt(weapon.getUpgradePrice());
+            out.writeByte(weapon.getStatus());
+            out.writeInt(weapon.getStatusPower());
+
+            out.writeInt(values.length);
+            out.write(kinds);
+            for (int value : values) out.writeInt(value);
+
+            out.writeBoolean(won);
+            out.writeInt(elapsedTime);
+            out.writeInt(playerHp);
+            out.writeLong(bossHp);
+        }
+    }
+
+    /**
+     * Reads a recording from a file. Recordings from before hordes are read as boss fights.
+     *
+     * @param file The file to read.
+     * @return The recording.
+     * @throws IOException If the file cannot be read or is not a fight recording.
+     */
+    public static FightRecording read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(file + " is not a fight recording");
+            }
+            short version = in.readShort();
+            if (version != 3 && version != VERSION) {
+                throw new IOException(file + " has unsupported version " + version);
+            }
+            FightRecording recording = new FightRecording();
+            recording.boss = in.readUTF();
+            recording.horde = version >= 4 && in.readBoolean();
+            recording.seed = in.readLong();
+            recording.hp = in.readInt();
+            recording.fp = in.readInt();
+            recording.healingTotal = in.readInt();
+            recording.stats = new int[in.readByte()];
+            for (int i = 0; i < recording.stats.length; i++) recording.stats[i] = in.readInt();
+
+            String name = in.readUTF();
+            String light = in.readUTF();
+            String heavy = in.readUTF();
+            String special = in.readUTF();
+            double[] scaling = new double[in.readByte()];
+            for (int i = 0; i < scaling.length; i++) scaling[i] = in.readDouble();
+            int price = in.readInt();
+            int damage = in.readInt();
+            int time = in.readInt();
+            int level = in.readInt();
+            int upgradePrice = in.readInt();
+            int status = in.readByte();
+            recording.weapon = new Weapon(name, light, heavy, special, scaling, price, damage, time, status, in.readInt());
+            recording.weapon.setLevel(level);
+            recording.weapon.setUpgradePrice(upgradePrice);
+
+            int decisions = in.readInt();
+            recording.kinds = new byte[decisions];
+            in.readFully(recording.kinds);
+            recording.values = new int[decisions];
+            for (int i = 0; i < decisions; i++) recording.values[i] = in.readInt();
+
+            recording.won = in.readBoolean();
+            recording.elapsedTime = in.readInt();
+            recording.playerHp = in.readInt();
+            recording.bossHp = version >= 4 ? in.readLong() : in.readInt();
+            return recording;
+        }
+    }
+}
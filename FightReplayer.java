@@ -0,0 +1,211 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Replays recorded fights headlessly and checks that they end the same way.
+ * Used to reproduce reported deaths and, in bulk, to check that engine changes
+ * have not changed the outcome of any recorded fight.
+ */
+public class FightReplayer {
+
+    /**
+     * Replays a recorded fight.
+     *
+     * @param recording The fight to replay.
+     * @return A description of the first difference from the recording, or null if the replay matches.
+     */
+    public static String replay(FightRecording recording) {
+        return replay(recording, null);
+    }
+
+    /**
+     * Replays a recorded fight, publishing its events.
+     *
+     * @param recording The fight to replay.
+     * @param events The bus to publish the fight's events to, or null.
+     * @return A description of the first difference from the recording, or null if the replay matches.
+     */
+    public static String replay(FightRecording recording, CombatEventBus events) {
+        return replay(recording, events, null);
+    }
+
+    /**
+     * Replays a recorded fight, publishing its events and running a callback before each recorded decision.
+     *
+     * @param recording The fight to replay.
+     * @param events The bus to publish the fight's events to, or null.
+     * @param beforeDecision Run before each decision is fed back, or null.
+     * @return A description of the first difference from the recording, or null if the replay matches.
+     */
+    private static String replay(FightRecording recording, CombatEventBus events, Runnable beforeDecision) {
+        Player player = recording.newPlayer();
+        Enemies enemies = recording.newEnemies();
+        ReplayController controller = new ReplayController(recording.getKinds(), recording.getValues(), beforeDecision);
+        Combat combat = new Combat(player, enemies, controller, true, recording.getSeed());
+        combat.setEventBus(events);
+
+        boolean won;
+        try {
+            won = combat.start();
+        } catch (IllegalStateException e) {
+            return e.getMessage();
+        }
+
+        if (controller.remaining() > 0) {
+            return "fight ended with " + controller.remaining() + " recorded decisions unused";
+        }
+        if (won != recording.isWon()) {
+            return "expected " + (recording.isWon() ? "win" : "loss") + " but got " + (won ? "win" : "loss");
+        }
+        if (combat.getElapsedTime() != recording.getElapsedTime() || player.getHp() != recording.getPlayerHp()
+                || enemies.getTotalHp() != recording.getBossHp()) {
+            return String.format("expected time %d, player hp %d, boss hp %d but got %d, %d, %d",
+                    recording.getElapsedTime(), recording.getPlayerHp(), recording.getBossHp(),
+                    combat.getElapsedTime(), player.getHp(), enemies.getTotalHp());
+        }
+        return null;
+    }
+
+    /**
+     * Feeds recorded decisions back to Combat in order.
+     */
+    private static class ReplayController implements PlayerController {
+        private final byte[] kinds;
+        private final int[] values;
+        private final Runnable beforeDecision;
+        private int next;
+
+        ReplayController(byte[] kinds, int[] values, Runnable beforeDecision) {
+            this.kinds = kinds;
+            this.values = values;
+            this.beforeDecision = beforeDecision;
+        }
+
+        int remaining() {
+            return values.length - next;
+        }
+
+        private int next(byte kind) {
+            if (beforeDecision != null) {
+                beforeDecision.run();
+            }
+            if (next == values.length) {
+                throw new IllegalStateException("ran out of recorded decisions after " + next);
+            }
+            if (kinds[next] != kind) {
+                throw new IllegalStateException("diverged at decision " + next);
+            }
+            return values[next++];
+        }
+
+        @Override
+        public int chooseAction(Player player, Enemies enemies, int enemy, int attack, int timeLeft) {
+            return next(FightRecorder.ACTION);
+        }
+
+        @Override
+        public int chooseAttack(Player player, Enemies enemies) {
+            return next(FightRecorder.ATTACK);
+        }
+
+        @Override
+        public int chooseTarget(Player player, Enemies enemies) {
+            return next(FightRecorder.TARGET);
+        }
+
+        @Override
+        public int chooseDodge(Enemies enemies, int enemy, int attack) {
+            return next(FightRecorder.DODGE);
+        }
+
+        @Override
+        public int chooseHealTarget(Player player) {
+            return next(FightRecorder.HEAL);
+        }
+
+        @Override
+        public int chooseWaitTime(int attack, int timeLeft) {
+            return next(FightRecorder.WAIT);
+        }
+    }
+
+    /**
+     * Replays one recorded fight and prints a timeline of its events.
+     * The ring is drained on the replaying thread before every recorded decision and once the fight ends,
+     * so it only has to hold the events published between two decisions.
+     *
+     * @param file The recording to replay.
+     * @throws IOException If the recording cannot be read.
+     */
+    private static void printTimeline(Path file) throws IOException {
+        FightRecording recording = FightRecording.read(file);
+        CombatEventBus events = new CombatEventBus(1024);
+        CombatEventBus.Subscriber log = events.subscribe();
+        CombatEventBus.Handler print = (type, time, enemy, a, b) ->
+                System.out.printf("%4ds  %-16s %5d %6d %6d%n", time, CombatEventBus.name(type), enemy, a, b);
+        Runnable drain = () -> {
+            while (log.poll(print, 256) > 0) {
+                // Print everything published since the last decision
+            }
+        };
+
+        String problem = replay(recording, events, drain);
+        drain.run();
+        if (log.getDropped() > 0) {
+            System.out.println(log.getDropped() + " events dropped");
+        }
+        System.out.println(file + ": " + (problem == null ? "replayed identically" : problem));
+    }
+
+    /**
+     * Replays every recording in the given files and directories in parallel.
+     * With "--events" first, replays them one at a time and prints each fight's event timeline.
+     *
+     * @param args Recording files or directories of ".fight" files. Defaults to the recordings directory.
+     * @throws IOException If a directory cannot be listed.
+     */
+    public static void main(String[] args) throws IOException {
+        boolean timeline = args.length > 0 && args[0].equals("--events");
+        if (timeline) args = Arrays.copyOfRange(args, 1, args.length);
+
+        List<Path> files = new ArrayList<>();
+        for (String arg : args.length > 0 ? args : new String[]{Main.RECORDINGS.toString()}) {
+            Path path = Paths.get(arg);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> list = Files.list(path)) {
+                    files.addAll(list.filter(file -> file.toString().endsWith(".fight")).sorted().collect(Collectors.toList()));
+                }
+            } else {
+                files.add(path);
+            }
+        }
+
+        if (timeline) {
+            for (Path file : files) printTimeline(file);
+            return;
+        }
+
+        List<String> failures = files.parallelStream().map(file -> {
+            try {
+                String problem = replay(FightRecording.read(file));
+                return problem == null ? null : file + ": " + problem;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).filter(problem -> problem != null).collect(Collectors.toList());
+
+        failures.forEach(System.out::println);
+        System.out.println((files.size() - failures.size()) + " of " + files.size() + " fights replayed identically");
+        if (!failures.isEmpty()) {
+            System.exit(1);
+        }
+    }
+}
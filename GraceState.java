@@ -0,0 +1,143 @@
+import java.util.Arrays;
+
+/**
+ * An immutable snapshot of what a Site of Grace can change: the player's runes, HP, FP, stats and
+ * weapon, and the weapon wheel on offer. Kept in an UndoHistory so level-ups, purchases and
+ * upgrades can be undone and redone.
+ *
+ * Each change makes a new state that shares every part it leaves alone with the old one, so an
+ * upgrade shares the stats and wheel, a level-up the weapon and wheel, and a purchase the stats.
+ * Only the part that changes is copied, and it is never written again: the stats and wheel
+ * arrays are private to the state, and weapons are upgraded on a copy.
+ */
+public final class GraceState {
+    private final int runes; // The player's runes
+    private final int hp; // The player's HP
+    private final int fp; // The player's FP
+    private final int[] stats; // The player's stats, never written
+    private final Weapon hand; // The player's weapon, never upgraded
+    private final Weapon[] wheel; // The weapons on offer, never written; null if not tracked
+
+    private GraceState(int runes, int hp, int fp, int[] stats, Weapon hand, Weapon[] wheel) {
+        this.runes = runes;
+        this.hp = hp;
+        this.fp = fp;
+        this.stats = stats;
+        this.hand = hand;
+        this.wheel = wheel;
+    }
+
+    /**
+     * Captures the player and wheel as they are now.
+     *
+     * @param player The player.
+     * @param wheel The weapons on offer, or null to leave them out.
+     * @return A new state.
+     */
+    public static GraceState of(Player player, Weapon[] wheel) {
+        int[] stats = player.getStats();
+        return new GraceState(player.getRunes(), player.getHp(), player.getFp(), Arrays.copyOf(stats, stats.length),
+                player.getHand(), wheel == null ? null : Arrays.copyOf(wheel, wheel.length));
+    }
+
+    /**
+     * Puts a stat point allocation into a state.
+     *
+     * @param index The stat allocated to.
+     * @param value The stat's new value.
+     * @param runes The runes left afterwards.
+     * @return A new state sharing the weapon and wheel.
+     */
+    public GraceState withStat(int index, int value, int runes) {
+        int[] changed = Arrays.copyOf(stats, stats.length);
+        changed[index] = value;
+        return new GraceState(runes, hp, fp, changed, hand, wheel);
+    }
+
+    /**
+     * Puts a finished level-up into a state.
+     *
+     * @param stats The stats afterwards, copied.
+     * @param runes The runes left afterwards.
+     * @param hp The HP afterwards.
+     * @param fp The FP afterwards.
+     * @return A new state sharing the weapon and wheel.
+     */
+    public GraceState withStats(int[] stats, int runes, int hp, int fp) {
+        return new GraceState(runes, hp, fp, Arrays.copyOf(stats, stats.length), hand, wheel);
+    }
+
+    /**
+     * Puts a purchase into a state: the weapon bought is swapped with the player's and the player
+     * pays its price less the price of the weapon traded in, as Main.buyWeapon does.
+     *
+     * @param index The weapon's index in the wheel.
+     * @return A new state sharing the stats.
+     */
+    public GraceState withPurchase(int index) {
+        Weapon[] changed = Arrays.copyOf(wheel, wheel.length);
+        Weapon bought = changed[index];
+        changed[index] = hand;
+        return new GraceState(runes - bought.getPrice() + hand.getPrice(), hp, fp, stats, bought, changed);
+    }
+
+    /**
+     * Puts a new weapon in the player's hand, such as an upgraded copy.
+     *
+     * @param weapon The weapon, which must not be upgraded afterwards.
+     * @return A new state sharing the stats and wheel.
+     */
+    public GraceState withHand(Weapon weapon) {
+        return new GraceState(runes, hp, fp, stats, weapon, wheel);
+    }
+
+    /**
+     * Sets the player and wheel to this state.
+     *
+     * @param player The player, who gets a copy of the stats.
+     * @param wheel The weapons on offer, whose contents are replaced; ignored when this state leaves the wheel out.
+     */
+    public void applyTo(Player player, Weapon[] wheel) {
+        player.setRunes(runes);
+        player.setHp(hp);
+        player.setFp(fp);
+        player.setStats(Arrays.copyOf(stats, stats.length));
+        player.setHand(hand);
+        if (this.wheel != null && wheel != null) {
+            System.arraycopy(this.wheel, 0, wheel, 0, this.wheel.length);
+        }
+    }
+
+    /**
+     * Checks whether a level-up left everything it can change as this state has it.
+     *
+     * @param stats The stats afterwards.
+     * @param runes The runes afterwards.
+     * @param hp The HP afterwards.
+     * @param fp The FP afterwards.
+     * @return True if nothing changed.
+     */
+    public boolean hasStats(int[] stats, int runes, int hp, int fp) {
+        return this.runes == runes && this.hp == hp && this.fp == fp && Arrays.equals(this.stats, stats);
+    }
+
+    public int getRunes() {
+        return runes;
+    }
+
+    public int getHp() {
+        return hp;
+    }
+
+    public int getFp() {
+        return fp;
+    }
+
+    public int getStat(int index) {
+        return stats[index];
+    }
+
+    public Weapon getHand() {
+        return hand;
+    }
+}
@@ -0,0 +1,55 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Stress test for fights against many enemies at once.
+ * Spawns a horde and plays it through Combat headlessly with the simulator's automated player,
+ * so a horde runs by exactly the rules of a boss fight, and reports how long each enemy cost.
+ * The player is given as much HP as fits, so even a large horde makes a long fight, which
+ * measures the engine rather than the build.
+ */
+public class HordeRunner {
+    private static final int PLAYER_HP = Integer.MAX_VALUE / 2; // As much HP as a hit past zero cannot overflow
+
+    /**
+     * Plays a horde fight and reports how it went and how fast the engine ran.
+     * Enemies are given as boss names with an optional copy count, e.g. Margit*2000 or
+     * GodskinDuo*2 Margit, where each Godskin Duo is two enemies.
+     * The player has a Greatsword unless --weapon=wheel:index picks one from a weapon wheel.
+     *
+     * @param args The enemies and --weapon in any order. Defaults to Margit*1000.
+     */
+    public static void main(String[] args) {
+        Weapon weapon = new Weapon("Greatsword", "Swing", "Slice", "Lion's Claw", new double[]{2, 0.5, 0, 0, 0}, 0, 400, 4);
+        List<String> specs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--weapon=")) {
+                String[] pick = arg.substring("--weapon=".length()).split(":");
+                weapon = WeaponWheels.get(Integer.parseInt(pick[0]))[Integer.parseInt(pick[1])];
+            } else {
+                specs.add(arg);
+            }
+        }
+        if (specs.isEmpty()) specs.add("Margit*1000");
+
+        Enemies horde = new Enemies();
+        for (String spec : specs) horde.spawn(spec);
+        Build build = new Build("Opening", new int[]{5, 0, 0, 10, 0, 0, 0, 0}, weapon, 2);
+        Player player = build.newPlayer();
+        player.setHp(PLAYER_HP);
+        PlayerController controller = new AutoPlayerController(new SplittableRandom(0), 0.8, 0.3);
+        Combat combat = new Combat(player, horde, controller, true, 0);
+
+        long start = System.nanoTime();
+        boolean won = combat.start();
+        long nanos = Math.max(1, System.nanoTime() - start);
+
+        System.out.println(build);
+        System.out.printf("%s after %ds and %d decisions: %d of %d enemies slain, %d HP lost%n",
+                won ? "Won" : "Died", combat.getElapsedTime(), combat.getDecisions(),
+                horde.size() - horde.getRemaining(), horde.size(), PLAYER_HP - player.getHp());
+        System.out.printf("%.1f ms, %.0f ns per enemy per second of fight%n", nanos / 1e6,
+                (double) nanos / Math.max(1, combat.getElapsedTime()) / horde.size());
+    }
+}
@@ -0,0 +1,468 @@
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only log of what changed since the last SaveGame: runes gained, stat allocations,
+ * weapon upgrades and purchases, undos and redos of those, and fight results. After a crash
+ * the journal is replayed over the save, so progress between checkpoints, such as levelling up
+ * between attempts at a boss, is not lost.
+ *
+ * The game only queues records; a background thread writes them and forces them to disk.
+ * Records that arrive while the thread waits on the disk are written together with one force
+ * (group commit), so the game never waits on the disk and a record is durable within one force
+ * of being queued, well under a second. Each record carries its length and a CRC32, so a record
+ * torn by a power loss ends replay instead of corrupting the player.
+ *
+ * The journal starts with the checkpoint of the save it follows. Each checkpoint starts it
+ * afresh, and a journal left over from an older checkpoint is ignored.
+ */
+public class Journal {
+    private static final int MAGIC = 0x45524A4C; // "ERJL"
+    private static final short VERSION = 1; // Newest format this class reads and writes
+    private static final int HEADER = 10; // Bytes before the first record
+    private static final int MAX_RECORD = 1 << 16; // Longest record replay believes
+
+    // Record types
+    private static final byte RUNES = 1; // int runes gained
+    private static final byte LEVEL_UP = 2; // int runes spent, int HP, int FP, byte count, int stats[count]
+    private static final byte UPGRADE = 3; // The player's weapon was upgraded
+    private static final byte PURCHASE = 4; // int index of the weapon bought from the wheel
+    private static final byte FIGHT = 5; // byte won, int HP, int FP, int heals, UTF-8 boss name
+    private static final byte UNDO = 6; // The last change at the Site of Grace was undone
+    private static final byte REDO = 7; // The last change undone at the Site of Grace was redone
+
+    /**
+     * A journal that records nothing, used by games that are not saved.
+     */
+    public static final Journal NONE = new Journal();
+
+    private static final ThreadLocal<Journal> CURRENT = ThreadLocal.withInitial(() -> NONE); // Journal of each thread's game
+
+    private static final Write STOP = new Write(null, false); // Queued last by close
+
+    private FileChannel channel; // The journal file, or null for NONE
+    private BlockingQueue<Write> queue; // Writes waiting for the writer thread
+    private Thread writer; // Writes and forces queued records
+    private volatile IOException failure; // Why the writer stopped, if it did
+    private boolean reported; // True once the failure has been shown to the player
+    private volatile long batches; // Forces done
+    private volatile long records; // Records written
+
+    private Journal() {
+    }
+
+    /**
+     * Opens a journal for a game that continues from a checkpoint. The records of an existing
+     * journal for the same checkpoint are kept, so they are replayed again after another crash;
+     * a journal for any other checkpoint is discarded.
+     *
+     * @param file The journal file.
+     * @param stage The checkpoint of the save the journal follows.
+     * @return The journal, with its writer thread running.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static Journal open(Path file, int stage) throws IOException {
+        Journal journal = new Journal();
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        long kept = 0;
+        if (Files.exists(file)) {
+            ByteBuffer in = read(file);
+            if (scan(in, stage, null) >= 0) kept = in.limit();
+        }
+        journal.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        journal.queue = new LinkedBlockingQueue<>();
+        if (kept > 0) {
+            // Carry on after the records replay will use, dropping a torn or superseded tail
+            journal.channel.truncate(kept);
+            journal.channel.position(kept);
+        } else {
+            journal.reset(stage);
+        }
+        journal.writer = new Thread(journal::write, "journal-writer");
+        journal.writer.setDaemon(true);
+        journal.writer.start();
+        return journal;
+    }
+
+    /**
+     * Gets the journal file that goes with a save.
+     *
+     * @param save The save file.
+     * @return The journal file next to it.
+     */
+    public static Path fileFor(Path save) {
+        return save.resolveSibling(save.getFileName() + ".journal");
+    }
+
+    /**
+     * Gets the journal the game is using.
+     *
+     * @return The current thread's journal, by default NONE.
+     */
+    public static Journal get() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Sets the journal the current thread's game uses.
+     *
+     * @param journal The journal, or null to go back to NONE.
+     */
+    public static void set(Journal journal) {
+        if (journal == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(journal);
+        }
+    }
+
+    /**
+     * Records runes gained.
+     *
+     * @param amount The runes gained.
+     */
+    public void runes(int amount) {
+        if (channel == null) return;
+        append(record(RUNES, 4).putInt(amount));
+    }
+
+    /**
+     * Records a finished stat allocation.
+     *
+     * @param stats The stats after levelling up.
+     * @param runesSpent The runes the allocation cost.
+     * @param hp The player's HP after levelling up.
+     * @param fp The player's FP after levelling up.
+     */
+    public void levelUp(int[] stats, int runesSpent, int hp, int fp) {
+        if (channel == null) return;
+        ByteBuffer record = record(LEVEL_UP, 13 + 4 * stats.length).putInt(runesSpent).putInt(hp).putInt(fp);
+        record.put((byte) stats.length);
+        for (int stat : stats) record.putInt(stat);
+        append(record);
+    }
+
+    /**
+     * Records an upgrade of the player's weapon.
+     */
+    public void upgrade() {
+        if (channel == null) return;
+        append(record(UPGRADE, 0));
+    }
+
+    /**
+     * Records a weapon bought from the wheel, which swaps it with the player's weapon.
+     *
+     * @param index The weapon's index in the wheel.
+     */
+    public void purchase(int index) {
+        if (channel == null) return;
+        append(record(PURCHASE, 4).putInt(index));
+    }
+
+    /**
+     * Records an undo at a Site of Grace.
+     */
+    public void undo() {
+        if (channel == null) return;
+        append(record(UNDO, 0));
+    }
+
+    /**
+     * Records a redo at a Site of Grace.
+     */
+    public void redo() {
+        if (channel == null) return;
+        append(record(REDO, 0));
+    }
+
+    /**
+     * Records the end of an attempt at a boss, once the player's HP, FP and heals are set for what comes next.
+     *
+     * @param boss The boss's name.
+     * @param won Whether the player won.
+     * @param player The player.
+     */
+    public void fight(String boss, boolean won, Player player) {
+        if (channel == null) return;
+        byte[] name = boss.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = record(FIGHT, 13 + name.length).put((byte) (won ? 1 : 0));
+        append(record.putInt(player.getHp()).putInt(player.getFp()).putInt(player.getHealingTotal()).put(name));
+    }
+
+    /**
+     * Starts the journal afresh after a checkpoint, once everything queued before it is written.
+     *
+     * @param stage The checkpoint just saved.
+     */
+    public void reset(int stage) {
+        if (channel == null) return;
+        ByteBuffer header = ByteBuffer.allocate(HEADER).putInt(MAGIC).putShort(VERSION).putInt(stage);
+        queue.add(new Write(header.flip(), true));
+    }
+
+    /**
+     * Writes everything queued, stops the writer thread and closes the file.
+     * Closing a journal more than once, or NONE, does nothing.
+     */
+    public void close() {
+        if (channel == null || !channel.isOpen()) return;
+        queue.add(STOP);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            Console.get().println("Could not close the journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the number of times the writer has forced the journal to disk.
+     *
+     * @return The forces done, each covering one or more records.
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * Gets the number of records written.
+     *
+     * @return The records written.
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Replays a journal over a player and weapon wheel restored from a save.
+     * Replay stops at a torn record, since nothing after it was written whole, and at a
+     * won fight, since the game had not yet saved past that boss and will fight it again.
+     *
+     * @param file The journal file.
+     * @param stage The checkpoint of the save.
+     * @param player The player from the save, brought up to date.
+     * @param wheel The weapon wheel from the save, brought up to date.
+     * @return The number of records replayed; 0 if there is no journal or it follows another checkpoint.
+     * @throws IOException If the file cannot be read or comes from a newer version of the game.
+     */
+    public static int replay(Path file, int stage, Player player, Weapon[] wheel) throws IOException {
+        if (!Files.exists(file)) return 0;
+        return Math.max(0, scan(read(file), stage, new Replay(player, wheel)));
+    }
+
+    /**
+     * Reads a whole journal into memory.
+     */
+    private static ByteBuffer read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new IOException(file + " is not a journal");
+            ByteBuffer in = ByteBuffer.allocate((int) size);
+            while (in.hasRemaining() && channel.read(in) >= 0) {
+                // Keep reading until the file is in memory
+            }
+            return in.flip();
+        }
+    }
+
+    /**
+     * Walks the records replay uses, applying them when given a replay.
+     * Afterwards the buffer's limit is the end of the last record used.
+     *
+     * @return The number of records used, or -1 if the journal follows another checkpoint.
+     */
+    private static int scan(ByteBuffer in, int stage, Replay replay) throws IOException {
+        if (in.remaining() < HEADER || in.getInt() != MAGIC) return -1; // Never got its header
+        short version = in.getShort();
+        if (version > VERSION) throw new IOException("The journal was written by a newer version of the game (" + version + ")");
+        if (in.getInt() != stage) return -1;
+
+        CRC32 crc = new CRC32();
+        int used = in.position();
+        int count = 0;
+        while (in.remaining() >= 8) {
+            int length = in.getInt();
+            int checksum = in.getInt();
+            if (length < 1 || length > MAX_RECORD || length > in.remaining()) break;
+            ByteBuffer record = in.slice(in.position(), length);
+            in.position(in.position() + length);
+            crc.reset();
+            crc.update(record.duplicate());
+            if ((int) crc.getValue() != checksum) break;
+            if (replay == null ? wins(record) : !replay.apply(record)) break;
+            used = in.position();
+            count++;
+        }
+        in.limit(used);
+        return count;
+    }
+
+    /**
+     * Checks whether a record is a won fight, where replay stops.
+     */
+    private static boolean wins(ByteBuffer record) {
+        return record.get() == FIGHT && record.get() != 0;
+    }
+
+    /**
+     * Starts a record of a type with room for its fields.
+     */
+    private static ByteBuffer record(byte type, int fields) {
+        return ByteBuffer.allocate(9 + fields).putInt(1 + fields).putInt(0).put(type);
+    }
+
+    /**
+     * Fills in a record's checksum and queues it for the writer.
+     */
+    private void append(ByteBuffer record) {
+        if (failure != null) {
+            if (!reported) {
+                reported = true;
+                Console.get().println("Could not write the journal: " + failure.getMessage());
+            }
+            return;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 8, record.position() - 8);
+        record.putInt(4, (int) crc.getValue());
+        queue.add(new Write(record.flip(), false));
+    }
+
+    /**
+     * The writer thread: takes everything queued, writes it and forces it to disk in one go.
+     */
+    private void write() {
+        List<Write> batch = new ArrayList<>();
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch);
+                boolean stop = false;
+                int written = 0;
+                for (Write write : batch) {
+                    if (write == STOP) {
+                        stop = true;
+                        break;
+                    }
+                    if (write.reset) {
+                        channel.truncate(0);
+                        channel.position(0);
+                    } else {
+                        written++;
+                    }
+                    while (write.bytes.hasRemaining()) channel.write(write.bytes);
+                }
+                channel.force(false);
+                records += written;
+                batches++;
+                batch.clear();
+                if (stop) return;
+            }
+        } catch (IOException e) {
+            failure = e;
+        } catch (InterruptedException e) {
+            failure = new InterruptedIOException("the journal writer was interrupted");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Replays records over a player and weapon wheel, keeping the undo history of each Site of
+     * Grace visit as Main.siteOfGrace does, so undos and redos restore the same states.
+     */
+    private static class Replay {
+        private final Player player; // The player brought up to date
+        private final Weapon[] wheel; // The weapon wheel brought up to date
+        private UndoHistory<GraceState> visit; // Undo history since the journal started or the last fight
+
+        Replay(Player player, Weapon[] wheel) {
+            this.player = player;
+            this.wheel = wheel;
+            this.visit = new UndoHistory<>(GraceState.of(player, wheel));
+        }
+
+        /**
+         * Applies one record.
+         *
+         * @return False at a won fight, where replay stops.
+         */
+        boolean apply(ByteBuffer record) {
+            switch (record.get()) {
+                case RUNES:
+                    player.addRunes(record.getInt());
+                    break;
+                case LEVEL_UP:
+                    player.spendRunes(record.getInt());
+                    player.setHp(record.getInt());
+                    player.setFp(record.getInt());
+                    int[] stats = new int[record.get()];
+                    for (int i = 0; i < stats.length; i++) stats[i] = record.getInt();
+                    player.setStats(stats);
+                    if (!visit.current().hasStats(stats, player.getRunes(), player.getHp(), player.getFp())) {
+                        visit = visit.commit(GraceState.of(player, wheel)); // As Main.siteOfGrace skips level-ups that change nothing
+                    }
+                    break;
+                case UPGRADE:
+                    if (player.getHand().getLevel() >= 4) break; // An upgrade at +4 changed nothing, as Main.siteOfGrace now refuses it
+                    Weapon upgraded = player.getHand().copy();
+                    upgraded.upgrade();
+                    player.setHand(upgraded);
+                    visit = visit.commit(GraceState.of(player, wheel));
+                    break;
+                case PURCHASE:
+                    visit = visit.commit(visit.current().withPurchase(record.getInt()));
+                    visit.current().applyTo(player, wheel);
+                    break;
+                case UNDO:
+                    if (!visit.canUndo()) break;
+                    visit = visit.undo();
+                    visit.current().applyTo(player, wheel);
+                    break;
+                case REDO:
+                    if (!visit.canRedo()) break;
+                    visit = visit.redo();
+                    visit.current().applyTo(player, wheel);
+                    break;
+                case FIGHT:
+                    if (record.get() != 0) return false;
+                    player.setHp(record.getInt());
+                    player.setFp(record.getInt());
+                    player.setHealingTotal(record.getInt());
+                    visit = new UndoHistory<>(GraceState.of(player, wheel));
+                    break;
+                default:
+                    break; // A record from a later version
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Bytes waiting for the writer thread.
+     */
+    private static class Write {
+        private final ByteBuffer bytes; // What to write
+        private final boolean reset; // True for a header that starts the journal afresh
+
+        Write(ByteBuffer bytes, boolean reset) {
+            this.bytes = bytes;
+            this.reset = reset;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * One field of a cache key packed into a long: its name, the position of its lowest bit and
+ * its width. Keys are packed and unpacked through the same fields, so the two always agree on
+ * the layout, and packing checks each value against its field's width, so a value too wide for
+ * its field throws instead of spilling into the next and making two keys collide.
+ */
+public class KeyField {
+    private final String name; // The field's name, for errors
+    private final int shift; // Position of the field's lowest bit
+    private final long largest; // Largest value the field holds
+
+    /**
+     * Creates a field.
+     *
+     * @param name The field's name, for errors.
+     * @param shift The position of the field's lowest bit.
+     * @param width The field's width in bits.
+     */
+    public KeyField(String name, int shift, int width) {
+        this.name = name;
+        this.shift = shift;
+        this.largest = (1L << width) - 1;
+    }
+
+    /**
+     * Shifts a value into this field.
+     *
+     * @param value The value.
+     * @return The value in place, to be or'ed with the key's other fields.
+     * @throws IllegalArgumentException If the value is negative or too wide for the field.
+     */
+    public long pack(long value) {
+        if (value < 0 || value > largest) {
+            throw new IllegalArgumentException(name + " " + value + " does not fit in a field holding 0-" + largest);
+        }
+        return value << shift;
+    }
+
+    /**
+     * Reads this field from a key.
+     *
+     * @param key The packed key.
+     * @return The field's value.
+     */
+    public int unpack(long key) {
+        return (int) (key >>> shift & largest);
+    }
+}
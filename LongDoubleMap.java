@@ -0,0 +1,149 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * An open-addressing hash map from non-negative long keys to double values, stored off the heap.
+ * Each entry is a key and its value side by side in 16 bytes of direct memory, so lookups never
+ * box, a probe touches one cache line, and a table of tens of millions of entries adds nothing
+ * for the garbage collector to scan or copy. Used as the solver's state cache, keyed by
+ * CombatStateCodec states.
+ *
+ * Direct buffers hold at most 2GB, so the table is split into segments of 2^26 entries.
+ * A free slot is all zeros, which is how direct memory starts out; keys are stored inverted,
+ * which makes every stored key negative. When the table grows, each old segment is dropped as
+ * soon as its entries are copied, so the garbage collector can release it without waiting for
+ * the rest. The memory is released when the map is garbage collected, and counts against
+ * -XX:MaxDirectMemorySize, which defaults to the heap limit.
+ */
+public class LongDoubleMap {
+    private static final int ENTRY_BYTES = 16; // A key and a value
+    private static final int SEGMENT_BITS = 26; // Entries per segment, as a power of two
+    private static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+
+    private ByteBuffer[] segments; // The table, in native byte order
+    private int size; // Number of entries
+    private long mask; // Capacity minus one
+
+    /**
+     * Creates a map.
+     *
+     * @param expected The number of entries expected, used to size the table.
+     */
+    public LongDoubleMap(long expected) {
+        allocate(Long.highestOneBit(Math.max(16, expected * 2) - 1) << 1);
+    }
+
+    /**
+     * Gets the value stored for a key.
+     *
+     * @param key The key, which must be non-negative.
+     * @return The value, or NaN if the key is not in the map.
+     */
+    public double get(long key) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Keys must be non-negative: " + key);
+        }
+        long stored = ~key;
+        long slot = hash(key) & mask;
+        while (true) {
+            ByteBuffer segment = segments[(int) (slot >>> SEGMENT_BITS)];
+            int offset = ((int) slot & SEGMENT_MASK) * ENTRY_BYTES;
+            long found = segment.getLong(offset);
+            if (found == stored) return segment.getDouble(offset + 8);
+            if (found == 0) return Double.NaN;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Stores a value for a key, replacing any previous value.
+     *
+     * @param key The key, which must be non-negative.
+     * @param value The value.
+     */
+    public void put(long key, double value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Keys must be non-negative: " + key);
+        }
+        long stored = ~key;
+        long slot = hash(key) & mask;
+        while (true) {
+            ByteBuffer segment = segments[(int) (slot >>> SEGMENT_BITS)];
+            int offset = ((int) slot & SEGMENT_MASK) * ENTRY_BYTES;
+            long found = segment.getLong(offset);
+            if (found == stored || found == 0) {
+                segment.putDouble(offset + 8, value);
+                if (found == 0) {
+                    segment.putLong(offset, stored);
+                    if (++size * 2L > mask + 1) grow();
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return The number of keys stored.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the direct memory the table occupies.
+     *
+     * @return The table's size in bytes.
+     */
+    public long getBytes() {
+        return (mask + 1) * ENTRY_BYTES;
+    }
+
+    /**
+     * Allocates an empty table of the given capacity.
+     */
+    private void allocate(long capacity) {
+        int perSegment = (int) Math.min(capacity, 1L << SEGMENT_BITS);
+        segments = new ByteBuffer[(int) (capacity / perSegment)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect(perSegment * ENTRY_BYTES).order(ByteOrder.nativeOrder());
+        }
+        mask = capacity - 1;
+    }
+
+    /**
+     * Doubles the table and reinserts every entry.
+     */
+    private void grow() {
+        ByteBuffer[] old = segments;
+        allocate((mask + 1) * 2);
+        for (int i = 0; i < old.length; i++) {
+            ByteBuffer segment = old[i];
+            old[i] = null; // Let the collector release it once copied
+            for (int offset = 0; offset < segment.capacity(); offset += ENTRY_BYTES) {
+                long stored = segment.getLong(offset);
+                if (stored == 0) continue;
+                long slot = hash(~stored) & mask;
+                while (true) {
+                    ByteBuffer target = segments[(int) (slot >>> SEGMENT_BITS)];
+                    int at = ((int) slot & SEGMENT_MASK) * ENTRY_BYTES;
+                    if (target.getLong(at) == 0) {
+                        target.putLong(at, stored);
+                        target.putDouble(at + 8, segment.getDouble(offset + 8));
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+            }
+        }
+    }
+
+    private static long hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -3,7 +3,12 @@
  * v.6.5
  */
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Main class for running the game. Handles the player's interaction with the game world,
@@ -11,8 +16,42 @@ import java.util.*;
  */
 public class Main {
 
-    private static final Scanner input = new Scanner(System.in);  // Static input scanner for all methods
-    private static Player tarnished;  // The player's character
+    static final Path RECORDINGS = Paths.get("recordings");  // Where lost fights are saved for replay
+    static final Path SAVE = Paths.get("saves", "tarnished.sav");  // Where the game is saved at Sites of Grace
+    // What lies ahead of each checkpoint, named when offering to continue from it
+    private static final String[] CHECKPOINTS = {"Margit", "Godrick", "Rennala", "the Red Wolf", "Rykard", "Mohg",
+            "Morgott", "the Fire Giant", "the Erdtree", "Sir Gideon", "Godfrey", "Malenia", "Radagon"};
+
+    // One playthrough of the story, from the checkpoint it continues at
+    private final RandomGenerator seeds;  // The source of each fight's seed
+    private final Path recordings;  // The directory lost fights are saved to, or null
+    private final boolean realTime;  // True to fight in real time instead of turn by turn
+    private final Path saves;  // The file the game is saved to, or null
+    private Player tarnished;  // The player, once created
+    private Weapon[] weaponWheel;  // The weapons on offer
+    private boolean eldenLord;  // Whether Melina was let fulfil her mission
+
+    /**
+     * Sets up a playthrough, new or continued from a save.
+     *
+     * @param seeds The source of each fight's seed.
+     * @param recordings The directory lost fights are saved to, or null to not save them.
+     * @param realTime True to fight in real time instead of turn by turn.
+     * @param saves The file the game is saved to, or null to not save it.
+     * @param tarnished The player, or null when starting from character creation.
+     * @param weaponWheel The weapons on offer, or null when starting from character creation.
+     * @param eldenLord Whether Melina was let fulfil her mission.
+     */
+    private Main(RandomGenerator seeds, Path recordings, boolean realTime, Path saves,
+                 Player tarnished, Weapon[] weaponWheel, boolean eldenLord) {
+        this.seeds = seeds;
+        this.recordings = recordings;
+        this.realTime = realTime;
+        this.saves = saves;
+        this.tarnished = tarnished;
+        this.weaponWheel = weaponWheel;
+        this.eldenLord = eldenLord;
+    }
 
     /**
      * Prints text and waits for the player to press Enter before clearing the screen.
@@ -20,9 +59,7 @@ public class Main {
      * @param text The text to display to the player.
      */
     public static void speak(String text) {
-        System.out.println(text);
-        input.nextLine();
-        clearScreen();
+        Console.get().speak(text);
     }
     
     /**
@@ -30,8 +67,7 @@ public class Main {
      * Note: Might not work on all terminals.
      */
     public static void clearScreen() {
-        System.out.print("\033[H\033[2J");
-        System.out.flush();
+        Console.get().clearScreen();
     }
 
     /**
@@ -46,20 +82,20 @@ public class Main {
         int amt = 0;
         while (true) {
             try {
-                amt = input.nextInt();
+                amt = Console.get().nextInt();
                 if (amt + stat > 99) {
-                    System.out.println("Cannot go over 99.");
+                    Console.get().println("Cannot go over 99.");
                 } else if (amt > runes) {
-                    System.out.println("Not enough runes.");
+                    Console.get().println("Not enough runes.");
                 } else if (amt < -1) {
-                    System.out.println("Has to be positive or -1 to undo.");
+                    Console.get().println("Has to be positive or -1 to undo.");
                 } else {
-                    input.nextLine();
+                    Console.get().nextLine();
                     return amt;
                 }
             } catch (InputMismatchException e) {
                 speak("Invalid input. Please enter a number.");
-                input.next(); // Clear invalid input
+                Console.get().next(); // Clear invalid input
             }
         }
     }
@@ -73,7 +109,8 @@ public class Main {
      */
     public static int[] levelUp(Player tarnished, int[] stats) {
         String[] STAT = {"Vigor", "Mind", "Endurance", "Strength", "Dexterity", "Intelligence", "Faith", "Arcane"};
-        Stack<UndoState> history = new Stack<>();  // Stack to track undo states
+        UndoHistory<GraceState> history = new UndoHistory<>(GraceState.of(tarnished, null));  // Each allocation, for undo
+        int startingRunes = tarnished.getRunes();
         int runesSpent = 0;
         int currentStatIndex = 0;
 
@@ -82,59 +119,58 @@ public class Main {
                 try {
                     clearScreen();
                     // Display stats and remaining runes
-                    System.out.print("The Stats: ");
+                    Console.get().print("The Stats: ");
                     for (int i = 0; i < STAT.length - 1; i++) {
-                        System.out.print(STAT[i] + ", ");
+                        Console.get().print(STAT[i] + ", ");
                     }
-                    System.out.println(STAT[STAT.length - 1]);
-                    System.out.println();
-                    System.out.println("Current Stats: " + Arrays.toString(stats));
-                    System.out.println("Runes remaining: " + tarnished.getRunes());
-                    System.out.println();
+                    Console.get().println(STAT[STAT.length - 1]);
+                    Console.get().println();
+                    Console.get().println("Current Stats: " + Arrays.toString(stats));
+                    Console.get().println("Runes remaining: " + tarnished.getRunes());
+                    Console.get().println();
                     
                     // Prompt player for stat allocation
-                    System.out.print("Points into " + STAT[currentStatIndex] + " (or enter -1 to undo): ");
+                    Console.get().print("Points into " + STAT[currentStatIndex] + " (or enter -1 to undo): ");
                     runesSpent = getStat(tarnished.getRunes(), tarnished.getStats(currentStatIndex));
     
                     if (runesSpent == -1) {
-                        if (history.isEmpty()) {
-                            System.out.println("No actions to undo.");
+                        if (!history.canUndo()) {
+                            Console.get().println("No actions to undo.");
                             continue;
                         }
                         // Undo last action
-                        UndoState lastState = history.pop();
-                        stats = lastState.getStats();
-                        tarnished.addRunes(lastState.getRunesSpent());
-                        System.out.println("Undo successful.");
+                        history = history.undo();
+                        history.current().applyTo(tarnished, null);
+                        stats = tarnished.getStats();
+                        Console.get().println("Undo successful.");
                         if (currentStatIndex > 0) {
                             currentStatIndex--;
                         }
                         continue;
                     }
         
-                    // Save current state to history stack before making changes
-                    history.push(new UndoState(Arrays.copyOf(stats, stats.length), runesSpent));
                     stats[currentStatIndex] += runesSpent;  // Apply stat change
                     tarnished.spendRunes(runesSpent);  // Deduct runes spent
-                    System.out.println("Runes remaining: " + tarnished.getRunes());
-                    System.out.println();
+                    history = history.commit(history.current().withStat(currentStatIndex, stats[currentStatIndex], tarnished.getRunes()));
+                    Console.get().println("Runes remaining: " + tarnished.getRunes());
+                    Console.get().println();
                     currentStatIndex++;  // Move to the next stat
                 } catch (InputMismatchException e) {
                     speak("Invalid input. Please enter a number.\n");
-                    input.next(); // Clear invalid input
+                    Console.get().next(); // Clear invalid input
                 }
             }
 
             // Finalize or allow stat changes
             clearScreen();
-            System.out.print("The Stats: ");
+            Console.get().print("The Stats: ");
             for (int i = 0; i < STAT.length - 1; i++) {
-                System.out.print(STAT[i] + ", ");
+                Console.get().print(STAT[i] + ", ");
             }
-            System.out.println(STAT[STAT.length - 1]);
-            System.out.println();
-            System.out.println("Current Stats: " + Arrays.toString(stats));
-            System.out.println();
+            Console.get().println(STAT[STAT.length - 1]);
+            Console.get().println();
+            Console.get().println("Current Stats: " + Arrays.toString(stats));
+            Console.get().println();
             if (!choice()) {
                 currentStatIndex = 7; // Allows player to go back and adjust
             } else {
@@ -145,46 +181,10 @@ public class Main {
         // Update HP and FP based on Vigor and Mind stats
         tarnished.setHp(tarnished.getHp() + tarnished.getStats(0) * 30);
         tarnished.setFp(tarnished.getFp() + tarnished.getStats(1) * 30);
+        Journal.get().levelUp(stats, startingRunes - tarnished.getRunes(), tarnished.getHp(), tarnished.getFp());
         return stats;
     }
 
-    /**
-     * Represents a snapshot of the player's state for undo functionality.
-     */
-    public static class UndoState {
-        private final int[] stats;  // Snapshot of the player's stats
-        private final int runesSpent;  // Runes spent during this state
-    
-        /**
-         * Constructs a new UndoState instance.
-         * 
-         * @param stats The player's current stats.
-         * @param runesSpent The amount of runes spent.
-         */
-        public UndoState(int[] stats, int runesSpent) {
-            this.stats = stats;
-            this.runesSpent = runesSpent;
-        }
-    
-        /**
-         * Gets the saved stats from this state.
-         * 
-         * @return The stats array.
-         */
-        public int[] getStats() {
-            return stats;
-        }
-    
-        /**
-         * Gets the runes spent during this state.
-         * 
-         * @return The amount of runes spent.
-         */
-        public int getRunesSpent() {
-            return runesSpent;
-        }
-    }
-
         /**
      * Allows the player to purchase a new weapon. Displays available weapons
      * and validates the player's choice and rune count.
@@ -194,19 +194,19 @@ public class Main {
      * @return The new weapon purchased by the player.
      */
     public static Weapon buyWeapon(Player tarnished, Weapon[] weaponWheel) {
-        System.out.println("Runes: " + tarnished.getRunes() + "\n");
-        System.out.println("Choose a Weapon: (-1 to back out)\n");
+        Console.get().println("Runes: " + tarnished.getRunes() + "\n");
+        Console.get().println("Choose a Weapon: (-1 to back out)\n");
 
         // Display weapon options
         for (int i = 0; i < weaponWheel.length; i++) {
-            System.out.println((i + 1) + ". " + weaponWheel[i].getName() + " - Price: " + weaponWheel[i].getPrice() + " Runes");
+            Console.get().println((i + 1) + ". " + weaponWheel[i].getName() + " - Price: " + weaponWheel[i].getPrice() + " Runes");
         }
-        System.out.println();
+        Console.get().println();
 
         // Handle player input for weapon selection
         while (true) {
             try {
-                int choice = input.nextInt();
+                int choice = Console.get().nextInt();
                 if (choice == -1) return tarnished.getHand();  // Cancel purchase
                 choice--;  // Convert to zero-based index
                 
@@ -218,10 +218,10 @@ public class Main {
 
                 // Check if player has enough runes to buy the weapon
                 if (tarnished.getRunes() < weaponWheel[choice].getPrice()) {
-                    System.out.println("Not enough runes. Choose a different weapon.\n");
+                    Console.get().println("Not enough runes. Choose a different weapon.\n");
                     continue;
                 }
-                input.nextLine();  // Clear input buffer
+                Console.get().nextLine();  // Clear input buffer
                 
                 // Confirm purchase
                 if (!choice()) {
@@ -233,11 +233,12 @@ public class Main {
                 tarnished.addRunes(tarnished.getHand().getPrice());
                 Weapon newWeapon = weaponWheel[choice];
                 weaponWheel[choice] = tarnished.getHand();  // Swap weapons in the wheel
+                Journal.get().purchase(choice);
                 return newWeapon;
 
             } catch (InputMismatchException ex) {
                 speak("Invalid input. Please enter a valid number.\n");
-                input.next();  // Clear invalid input
+                Console.get().next();  // Clear invalid input
             }
         }
     }
@@ -249,8 +250,8 @@ public class Main {
      */
     public static boolean choice() {
         while (true) {
-            System.out.println("Are you sure? (Y or N)\n");
-            String answer = input.nextLine().trim().toUpperCase();
+            Console.get().println("Are you sure? (Y or N)\n");
+            String answer = Console.get().nextLine().trim().toUpperCase();
             if (answer.equals("Y")) {
                 return true;
             } else if (answer.equals("N")) {
@@ -268,24 +269,45 @@ public class Main {
      * @param weaponWheel The array of available weapons.
      * @param player The player character.
      * @param boss The boss the player is fighting.
+     * @param seeds The source of each attempt's seed.
+     * @param recordings The directory lost fights are saved to, or null to not save them.
+     * @param realTime True to fight in real time, which is not recorded.
      */
-    public static void fight(Weapon[] weaponWheel, Player player, Boss boss) {
+    public static void fight(Weapon[] weaponWheel, Player player, Boss boss, RandomGenerator seeds, Path recordings,
+                             boolean realTime) {
         // Save player's original stats to restore after combat
         int normalHp = player.getHp();
         int normalFp = player.getFp();
         int healingTotal = player.getHealingTotal();
         int bossHp = boss.getHp();
 
-        Combat combat = new Combat(player, boss);  // Initialize combat system
-
         while (true) {
-            if (!combat.start()) {  // If player is defeated
+            // Each attempt gets its own seed and a recording of the player's decisions
+            long seed = seeds.nextLong();
+            FightRecording recording = null;
+            boolean won;
+            if (realTime) {
+                won = fightInRealTime(player, boss, seed);
+            } else {
+                FightRecorder recorder = new FightRecorder(new ConsolePlayerController());
+                recording = FightRecording.begin(player, boss, seed);
+                Combat combat = new Combat(player, boss, recorder, false, seed);
+                won = combat.start();
+                recording.finish(recorder, combat, won, player, boss);
+            }
+
+            if (!won) {  // If player is defeated
+                if (recordings != null && recording != null) {
+                    saveRecording(recording, recordings);
+                }
+
                 // Restore original stats
                 player.setHp(normalHp);
                 player.setFp(normalFp);
                 player.setHealingTotal(healingTotal);
                 boss.setHp(bossHp);
                 boss.setPhase(1);  // Reset boss to phase 1
+                Journal.get().fight(boss.getName(), false, player);
                 
                 // Offer player option to visit Site of Grace if they have runes
                 if (player.getRunes() > 0) {
@@ -300,57 +322,354 @@ public class Main {
             player.setHealingTotal(healingTotal);
             player.addRunes(boss.getRunes());
             player.addHealingTotal();
+            Journal.get().fight(boss.getName(), true, player);
+            Journal.get().runes(boss.getRunes());
+            return;
+        }
+    }
+
+    /**
+     * Plays one attempt at a fight in real time on the current console.
+     *
+     * @param player The player character.
+     * @param boss The boss the player is fighting.
+     * @param seed The seed for the boss's combo choices.
+     * @return True if the player wins.
+     */
+    private static boolean fightInRealTime(Player player, Boss boss, long seed) {
+        try {
+            return new RealTimeCombat(player, boss, Console.get(), seed).start();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during a real-time fight", e);
+        }
+    }
+
+    /**
+     * Saves a lost fight so it can be replayed with FightReplayer.
+     * A failure to save is reported but does not interrupt the game.
+     *
+     * @param recording The finished fight.
+     * @param directory The directory to save it in.
+     */
+    private static void saveRecording(FightRecording recording, Path directory) {
+        try {
+            Files.createDirectories(directory);
+            String name = recording.isHorde() ? "Horde" : recording.getBoss();
+            recording.write(directory.resolve(name + "-" + Long.toHexString(recording.getSeed()) + ".fight"));
+        } catch (IOException e) {
+            Console.get().println("Could not save the fight recording: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Offers to continue from the saved game, if there is one.
+     * A save that cannot be read is reported and a new game is started instead.
+     *
+     * @param file The save file, or null when the game is not saved.
+     * @return The save to continue from, or null for a new game.
+     */
+    private static SaveGame loadSave(Path file) {
+        if (file == null || !Files.exists(file)) {
+            return null;
+        }
+        SaveGame save;
+        try {
+            save = SaveGame.read(file);
+        } catch (IOException e) {
+            Console.get().println("Could not load the saved game: " + e.getMessage());
+            return null;
+        }
+        if (save.getStage() < 1 || save.getStage() > CHECKPOINTS.length) {
+            Console.get().println("Could not load the saved game: " + file + " has no checkpoint " + save.getStage());
+            return null;
+        }
+        while (true) {
+            Console.get().println("Continue " + save.newPlayer().getName() + "'s journey toward "
+                    + CHECKPOINTS[save.getStage() - 1] + "? (Y or N)\n");
+            String answer = Console.get().nextLine().trim().toUpperCase();
+            if (answer.equals("Y")) {
+                return save;
+            } else if (answer.equals("N")) {
+                return null;
+            } else {
+                speak("Invalid input. Please enter Y or N.\n");
+            }
+        }
+    }
+
+    /**
+     * Saves the game at a checkpoint, replacing the previous save.
+     * A failure to save is reported but does not interrupt the game.
+     *
+     * @param file The save file, or null to not save.
+     * @param stage The checkpoint reached, which the game continues from.
+     * @param player The player.
+     * @param weaponWheel The weapons on offer.
+     * @param eldenLord Whether Melina was let fulfil her mission.
+     */
+    private static void checkpoint(Path file, int stage, Player player, Weapon[] weaponWheel, boolean eldenLord) {
+        if (file == null) {
+            return;
+        }
+        try {
+            SaveGame.of(stage, player, weaponWheel, eldenLord).write(file);
+            Journal.get().reset(stage);
+        } catch (IOException e) {
+            Console.get().println("Could not save the game: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the save and journal of a finished game.
+     *
+     * @param file The save file, or null when the game is not saved.
+     */
+    private static void deleteSave(Path file) {
+        if (file == null) {
             return;
         }
+        Journal.get().close();
+        try {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(Journal.fileFor(file));
+        } catch (IOException e) {
+            Console.get().println("Could not delete the saved game: " + e.getMessage());
+        }
     }
 
     /**
      * Handles player interaction at a Site of Grace, allowing the player to purchase weapons,
-     * level up, or upgrade their current weapon.
+     * level up, or upgrade their current weapon, and to undo and redo any of those until they leave.
      * 
      * @param player The player character interacting with the Site of Grace.
      * @param weaponWheel The array of available weapons for purchase.
      */
     public static void siteOfGrace(Player player, Weapon[] weaponWheel) {
+        UndoHistory<GraceState> history = new UndoHistory<>(GraceState.of(player, weaponWheel));  // Every change made here
         while (true) {
             clearScreen();
             // Display options at the Site of Grace
-            System.out.println("What dost thou wish to do?\n1) Purchase New Weapon\n2) Level Up\n3) Upgrade Weapon\n4) Leave\n");
+            Console.get().println("What dost thou wish to do?\n1) Purchase New Weapon\n2) Level Up\n3) Upgrade Weapon\n4) Leave\n5) Undo\n6) Redo\n");
             
             // Handle player input
-            int answer = input.nextInt();
+            int answer = Console.get().nextInt();
             switch (answer) {
                 case 1:
                     // Player buys a new weapon
-                    tarnished.setHand(buyWeapon(tarnished, weaponWheel));
+                    Weapon traded = player.getHand();
+                    player.setHand(buyWeapon(player, weaponWheel));
+                    if (player.getHand() != traded) {
+                        int index = Arrays.asList(weaponWheel).indexOf(traded);
+                        history = history.commit(history.current().withPurchase(index));
+                    }
                     break;
                 case 2:
-                    // Player levels up
-                    tarnished.setStats(levelUp(tarnished, tarnished.getStats()));
+                    // Player levels up; a level-up that changes nothing leaves nothing to undo
+                    player.setStats(levelUp(player, player.getStats()));
+                    if (!history.current().hasStats(player.getStats(), player.getRunes(), player.getHp(), player.getFp())) {
+                        history = history.commit(history.current().withStats(player.getStats(), player.getRunes(), player.getHp(), player.getFp()));
+                    }
                     break;
                 case 3:
-                    // Upgrade weapon if the player has enough runes
-                    System.out.print("This will cost you " + tarnished.getHand().getUpgradePrice() + " runes. ");
+                    // Upgrade weapon if the player has enough runes; a weapon at +4 has nothing to undo or journal
+                    if (player.getHand().getLevel() >= 4) {
+                        speak("Maximum Level already achieved.\n");
+                        break;
+                    }
+                    Console.get().print("This will cost you " + player.getHand().getUpgradePrice() + " runes. ");
                     if (!choice()) {
                         break;
                     }
-                    if (tarnished.getRunes() < tarnished.getHand().getUpgradePrice()) {
-                        System.out.println("Not enough runes.");
+                    if (player.getRunes() < player.getHand().getUpgradePrice()) {
+                        Console.get().println("Not enough runes.");
                         break;
                     }
-                    tarnished.getHand().upgrade();
+                    // Upgrade a copy, so the weapon before the upgrade can be restored
+                    Weapon upgraded = player.getHand().copy();
+                    upgraded.upgrade();
+                    player.setHand(upgraded);
+                    history = history.commit(history.current().withHand(upgraded));
+                    Journal.get().upgrade();
                     break;
                 case 4:
                     // Player leaves the Site of Grace
                     clearScreen();
                     return;
+                case 5:
+                    // Take back the last purchase, level-up or upgrade
+                    if (!history.canUndo()) {
+                        speak("Nothing to undo.\n");
+                        break;
+                    }
+                    history = history.undo();
+                    history.current().applyTo(player, weaponWheel);
+                    Journal.get().undo();
+                    break;
+                case 6:
+                    // Make the last change undone again
+                    if (!history.canRedo()) {
+                        speak("Nothing to redo.\n");
+                        break;
+                    }
+                    history = history.redo();
+                    history.current().applyTo(player, weaponWheel);
+                    Journal.get().redo();
+                    break;
                 default:
                     speak("Invalid action. Try again.\n");
             }
         }
     }
 
+    /**
+     * Starts the game.
+     *
+     * @param args Optional --realtime to fight in real time instead of turn by turn, or --horde and the bosses to fight at once.
+     */
     public static void main(String[] args) {
+        List<String> options = Arrays.asList(args);
+        if (options.contains("--horde")) {
+            List<String> enemies = new ArrayList<>(options);
+            enemies.removeIf(option -> option.startsWith("--"));
+            horde(enemies, new SplittableRandom(), RECORDINGS, SAVE);
+            return;
+        }
+        play(new SplittableRandom(), RECORDINGS, options.contains("--realtime"), SAVE);
+    }
+
+    /**
+     * Plays one fight against several bosses at once on the current thread's console, with the
+     * character as of the saved game and its journal, or a new one if there is no save. The fight
+     * is played turn by turn like any boss fight, choosing which enemy to attack while more than
+     * one stands, and is recorded if lost. Nothing is saved or journaled.
+     *
+     * @param enemies Boss names with optional copy counts, e.g. Margit*3; the Godskin Duo, as two enemies, when empty.
+     * @param seeds The source of the fight's seed.
+     * @param recordings The directory a lost fight is saved to, or null to not save it.
+     * @param saves The save whose character fights, or null (or no save) for a new character.
+     */
+    public static void horde(List<String> enemies, RandomGenerator seeds, Path recordings, Path saves) {
+        Player player = new Player("Tarnished");
+        if (saves != null && Files.exists(saves)) {
+            try {
+                SaveGame save = SaveGame.read(saves);
+                player = save.newPlayer();
+                Journal.replay(Journal.fileFor(saves), save.getStage(), player, save.getWheel());
+            } catch (IOException e) {
+                Console.get().println("Could not load the saved game: " + e.getMessage());
+            }
+        }
+
+        List<String> specs = enemies.isEmpty() ? List.of("GodskinDuo") : enemies;
+        Enemies horde = new Enemies();
+        try {
+            for (String spec : specs) horde.spawn(spec);
+        } catch (IllegalArgumentException e) {
+            Console.get().println(e.getMessage());
+            return;
+        }
+
+        long seed = seeds.nextLong();
+        speak(player.getName() + " faces " + horde.size() + " foes at once.");
+        FightRecorder recorder = new FightRecorder(new ConsolePlayerController());
+        FightRecording recording = FightRecording.begin(player, specs, seed);
+        Combat combat = new Combat(player, horde, recorder, false, seed);
+        boolean won = combat.start();
+        recording.finish(recorder, combat, won, player, horde);
+        if (!won && recordings != null) {
+            saveRecording(recording, recordings);
+        }
+        Console.get().println(String.format("%s after %ds: %d of %d enemies slain",
+                won ? "Won" : "Died", combat.getElapsedTime(), horde.size() - horde.getRemaining(), horde.size()));
+    }
+
+    /**
+     * Plays the whole game on the current thread's console, from the story's opening to the ending.
+     *
+     * @param seeds The source of each fight's seed; a fixed seed makes the game repeat exactly for the same input.
+     * @param recordings The directory lost fights are saved to, or null to not save them.
+     */
+    public static void play(RandomGenerator seeds, Path recordings) {
+        play(seeds, recordings, false);
+    }
+
+    /**
+     * Plays the whole game on the current thread's console, from the story's opening to the ending, without saving it.
+     *
+     * @param seeds The source of each fight's seed; a fixed seed makes the game repeat exactly for the same input.
+     * @param recordings The directory lost fights are saved to, or null to not save them.
+     * @param realTime True to fight in real time instead of turn by turn.
+     */
+    public static void play(RandomGenerator seeds, Path recordings, boolean realTime) {
+        play(seeds, recordings, realTime, null);
+    }
+
+    /**
+     * Plays the game on the current thread's console, continuing from a save if the player wants to.
+     * The game is saved after character creation and after each boss, and the save is deleted once
+     * Radagon falls. What happens in between is kept in a Journal next to the save, which is replayed
+     * over the save when the game continues.
+     *
+     * @param seeds The source of each fight's seed; a fixed seed makes the game repeat exactly for the same input.
+     * @param recordings The directory lost fights are saved to, or null to not save them.
+     * @param realTime True to fight in real time instead of turn by turn.
+     * @param saves The file the game is saved to, or null to not save it.
+     */
+    public static void play(RandomGenerator seeds, Path recordings, boolean realTime, Path saves) {
+        Player tarnished = null;
+        Weapon[] weaponWheel = null;
+        boolean eldenLord = false;
+        int stage = 0;
+        SaveGame save = loadSave(saves);
+        if (save != null) {
+            tarnished = save.newPlayer();
+            weaponWheel = save.getWheel();
+            eldenLord = save.isEldenLord();
+            stage = save.getStage();
+            try {
+                Journal.replay(Journal.fileFor(saves), stage, tarnished, weaponWheel);
+            } catch (IOException e) {
+                Console.get().println("Could not replay the journal: " + e.getMessage());
+            }
+        }
+
+        Journal journal = Journal.NONE;
+        if (saves != null) {
+            try {
+                journal = Journal.open(Journal.fileFor(saves), stage);
+            } catch (IOException e) {
+                Console.get().println("Could not open the journal: " + e.getMessage());
+            }
+        }
+        Journal.set(journal);
+        try {
+            new Main(seeds, recordings, realTime, saves, tarnished, weaponWheel, eldenLord).campaign(stage);
+        } finally {
+            Journal.set(null);
+            journal.close();
+        }
+    }
+
+    /**
+     * Plays the story from a checkpoint to the ending, running each stage in turn.
+     * Stage n ends at checkpoint n + 1, so a saved game continues with the stage after its checkpoint.
+     *
+     * @param stage The checkpoint to start from, 0 for a new game.
+     */
+    private void campaign(int stage) {
+        Runnable[] stages = {this::opening, this::margit, this::godrick, this::rennala,
+                this::redWolf, this::rykard, this::mohg, this::morgott, this::fireGiant, this::erdtree,
+                this::gideon, this::godfrey, this::malenia, this::radagon};
+        for (int next = stage; next < stages.length; next++) {
+            stages[next].run();
+        }
+    }
+
+    /**
+     * Stage 0: the opening, the tutorial and character creation, up to the first checkpoint.
+     */
+    private void opening() {
         clearScreen();
         speak("In the beginning, there was only a single Erdtree.");
         speak("Until one day, an eternal dropped from the Erdtree.");
@@ -361,8 +680,8 @@ public class Main {
         speak("You will need all the power you can muster to overthrow the Erdtree.");
         speak("The lands beyond the Erdtree are fraught with peril, and only those of great fortitude and cunning will prevail.");
 
-        System.out.print("What is thy name? ");
-        String name = input.nextLine();
+        Console.get().print("What is thy name? ");
+        String name = Console.get().nextLine();
 
         tarnished = new Player(name);
         
@@ -392,19 +711,19 @@ public class Main {
         speak("   - The more you level up and allocate runes to your stats, the stronger your attacks become.");
         speak("   - Bosses also have their damage scaling based on their level and phase.");
 
-        Weapon[] weaponWheel = {
-            new Weapon("Greatsword, scales with Strength primarily and Dexterity secondarily", "Swing", "Slice", "Lion's Claw", new double[]{2, 0.5, 0, 0, 0}, 0, 400, 4), 
-            new Weapon("Urumi, scales with Dexterity primarily and Strength secondarily", "Whip", "Trip", "Hack'n'Slash", new double[]{0.5, 2, 0, 0, 0}, 0, 150, 1),
-            new Weapon("Glintstone Staff, scales with Intelligence", "Glintstone Pebble", "Comet", "Comet Azur", new double[]{0, 0, 2, 0, 0}, 0, 100, 2),
-            new Weapon("Winged Scythe, scales with Intelligence and Faith primarily and Strength secondarily", "Scythe", "Sweep", "Death Scythe", new double[]{0, 0, 1, 1, 1}, 0, 300, 5),
-            new Weapon("Rivers of Blood, scales with Arcane primarily and Dexterity secondarily", "Bloodletting", "Stab", "Unsheath", new double[]{0, 0.5, 0, 0, 1}, 0, 200, 2)
-        };
+        weaponWheel = WeaponWheels.get(0);
 
         
         tarnished.setHand(buyWeapon(tarnished, weaponWheel));
 
         tarnished.setStats(levelUp(tarnished, tarnished.getStats()));
+        checkpoint(saves, 1, tarnished, weaponWheel, eldenLord);
+    }
 
+    /**
+     * Stage 1: meeting Melina and the fight with Margit.
+     */
+    private void margit() {
         clearScreen();
         speak("You have completed the character creation process.");
         speak("Your character, " + tarnished.getName() + ", is ready to begin the journey.");
@@ -433,8 +752,15 @@ public class Main {
         speak("It’s time. Face your fears, summon your resolve, and step into the crucible of combat. The fate of your journey—and perhaps the very world—rests on this moment.");
     
         Boss margit = new Margit();
-        fight(weaponWheel, tarnished, margit);
-        
+        fight(weaponWheel, tarnished, margit, seeds, recordings, realTime);
+        weaponWheel = WeaponWheels.get(1);
+        checkpoint(saves, 2, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 2: the fight with Godrick.
+     */
+    private void godrick() {
         speak("The clash with Margit has left the bridge in ruins, and the air is thick with the remnants of magic and the echoes of battle.");
         speak("As the dust settles and the mist begins to clear, you stand victorious but weary. Your body aches from the exertion, and your heart still races from the fight.");
         speak("From the shadows of the crumbling castle, a figure emerges—a woman of ethereal grace and quiet strength. She moves with an air of calm assurance, her presence a stark contrast to the chaos that just transpired.");
@@ -451,14 +777,6 @@ public class Main {
         speak("With that, she steps back into the shadows, leaving you to contemplate your next move as the light of the Site of Grace casts a warm glow around you.");
         speak("The journey continues, and with each step, the path to the Erdtree becomes clearer, illuminated by the strength and wisdom you have gained.");
         
-        weaponWheel = new Weapon[] {
-            new Weapon("Great Club, scales with Strength primarily and Dexterity secondarily", "Smash", "Crush", "Earthquake", new double[]{3.0, 0.5, 0.0, 0.0, 0.0}, 20, 500, 5), 
-            new Weapon("Reduvia, scales with Dexterity primarily and Arcane secondarily", "Stab", "Flay", "Blood Surge", new double[]{0.5, 3.0, 0.0, 0.0, 0.5}, 20, 250, 2), 
-            new Weapon("Azur's Glintstone Staff, scales with Intelligence primarily", "Magic Missile", "Arcane Burst", "Meteor Shower", new double[]{0.0, 0.0, 3.0, 0.0, 0.0}, 20, 300, 3), 
-            new Weapon("Godslayer Sword, scales with Faith primarily and Dexterity secondarily", "Cleave", "Searing Strike", "Divine Retribution", new double[]{0.5, 0.0, 0.0, 3.0, 0.0}, 20, 400, 4), 
-            new Weapon("Death's Poker, scales with Arcane primarily and Dexterity secondarily", "Pierce", "Spectral Thrust", "Soul Rend", new double[]{0.0, 1.0, 0.0, 0.0, 3.0}, 20, 350, 3)
-        };
-
         siteOfGrace(tarnished, weaponWheel);
         
         // Preparing for the encounter with Godrick the Grafted
@@ -470,19 +788,18 @@ public class Main {
         speak("The battle with Godrick is a harrowing ordeal. Each of his blows is delivered with an overwhelming force, the weight of his weapon sending tremors through the castle’s very foundation. His strength and resilience are matched only by his cunning and brutality.");
         
         Boss godrick = new Godrick();
-        fight(weaponWheel, tarnished, godrick);
-        
+        fight(weaponWheel, tarnished, godrick, seeds, recordings, realTime);
+        weaponWheel = WeaponWheels.get(2);
+        checkpoint(saves, 3, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 3: the fight with Rennala.
+     */
+    private void rennala() {
         speak("Melina’s tactical advice proves invaluable as you struggle against Godrick’s onslaught. Her insights help you to dodge and counter his devastating attacks, and through sheer determination and skill, you manage to overcome the Grafted King.");
         speak("The throne room falls silent, the echoes of your battle lingering in the air. As Godrick’s massive form crumbles, Melina approaches with a look of relief. 'We have triumphed over a significant foe,' she says. 'But our journey is far from over. The path ahead leads us to the shattered remnants of the Academy of Raya Lucaria.'");
         
-        weaponWheel = new Weapon[] {
-            new Weapon("Colossal Greatsword, scales with Strength primarily and a bit of Dexterity", "Heavy Swing", "Ground Slam", "Titan's Wrath", new double[]{3.5, 0.7, 0.0, 0.0, 0.0}, 700, 600, 6), 
-            new Weapon("Silence, scales with Dexterity primarily and Arcane secondarily", "Quick Slash", "Veil Slice", "Silent Execution", new double[]{0.7, 3.5, 0.0, 0.0, 0.7}, 500, 300, 3), 
-            new Weapon("Moonlight Greatsword, scales with Intelligence primarily", "Lunar Strike", "Starfall", "Cosmic Burst", new double[]{0.0, 0.0, 4.0, 0.0, 0.0}, 700, 400, 4), 
-            new Weapon("Blasphemous Blade, scales with Faith primarily and Dexterity secondarily", "Scorch", "Blaze Swipe", "Hellfire", new double[]{0.6, 0.3, 0.0, 4.0, 0.0}, 650, 450, 5), 
-            new Weapon("Mimic Tear's Blade, scales with Arcane primarily and Dexterity secondarily", "Copycat Strike", "Shadow Edge", "Mirrored Death", new double[]{0.0, 1.2, 0.0, 0.0, 4.0}, 550, 400, 4)
-        };
-        
         siteOfGrace(tarnished, weaponWheel);
         
         // Preparing for the encounter with Rennala, Queen of the Full Moon
@@ -494,8 +811,14 @@ public class Main {
         speak("The battle with Rennala is a mesmerizing spectacle of sorcery and arcane might. Her attacks are both beautiful and deadly, weaving intricate patterns of magic that challenge your every move. The room becomes a chaotic dance of light and dark as she unleashes her full power.");
         
         Boss rennala = new Rennala();
-        fight(weaponWheel, tarnished, rennala);
-        
+        fight(weaponWheel, tarnished, rennala, seeds, recordings, realTime);
+        checkpoint(saves, 4, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 4: the fight with the Red Wolf of Radagon.
+     */
+    private void redWolf() {
         speak("With Melina’s strategic guidance and your own resilience, you navigate the storm of spells and find the moments to strike. Rennala’s defeat brings a profound silence, her ethereal form dissipating into the ether. The academy, though still in ruins, feels a little lighter for your victory.");
         speak("Melina approaches, her gaze filled with a mix of satisfaction and concern. 'Rennala’s fall is a crucial step in our journey,' she says. 'Yet the road ahead will only grow more treacherous. Prepare yourself for the trials that lie beyond.'");
         
@@ -508,8 +831,14 @@ public class Main {
         speak("The battle with the Red Wolf is a relentless test of agility and strategy. His attacks are fast and unpredictable, forcing you to constantly move and adapt. Melina’s tactical advice helps you anticipate his movements and find the right moments to strike.");
         
         Boss redwolf = new RedWolf();
-        fight(weaponWheel, tarnished, redwolf);
-        
+        fight(weaponWheel, tarnished, redwolf, seeds, recordings, realTime);
+        checkpoint(saves, 5, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 5: the fight with Rykard.
+     */
+    private void rykard() {
         speak("After an intense and exhausting fight, you manage to defeat the Red Wolf, his form collapsing into a pool of dark energy. The battlefield falls silent, the oppressive atmosphere lifting slightly as you catch your breath.");
         speak("Melina approaches, her expression a mixture of relief and encouragement. 'You’ve faced another formidable challenge and emerged victorious,' she says. 'But the journey is far from over. The next trial will be even more daunting—the domain of Rykard, the God-Devouring Serpent.'");
         
@@ -522,19 +851,18 @@ public class Main {
         speak("The battle with Rykard is a grueling test of endurance and strategy. His immense size and dark powers create a chaotic and challenging fight. Melina’s guidance helps you navigate through the tumultuous battle, allowing you to find the moments to strike effectively.");
         
         Boss serpent = new Serpent();
-        fight(weaponWheel, tarnished, serpent);
-        
+        fight(weaponWheel, tarnished, serpent, seeds, recordings, realTime);
+        weaponWheel = WeaponWheels.get(3);
+        checkpoint(saves, 6, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 6: the fight with Mohg.
+     */
+    private void mohg() {
         speak("After a fierce and prolonged struggle, you finally defeat Rykard, his form collapsing into a seething mass of dark energy. The lair falls silent, the oppressive atmosphere lifting slightly as you catch your breath.");
         speak("Melina approaches, her expression a mix of grim satisfaction and concern. 'Rykard’s defeat is a significant victory,' she says. 'But the final challenges lie ahead. Stay strong and focused for what is to come.'");
         
-        weaponWheel = new Weapon[] {
-            new Weapon("Grafted Blade Greatsword, scales with Strength primarily and a bit of Dexterity", "Overhead Smash", "Sweep", "Mighty Slam", new double[]{3.8, 0.6, 0.0, 0.0, 0.0}, 700, 600, 6), 
-            new Weapon("Eclipse Shotel, scales with Dexterity primarily and a bit of Strength", "Slice", "Sun's Flare", "Eclipse Cut", new double[]{0.8, 3.0, 0.0, 0.0, 0.0}, 550, 300, 3), 
-            new Weapon("Sword of Night and Flame, scales with Intelligence primarily and Faith secondarily", "Night Slash", "Flame Sweep", "Starfire", new double[]{0.5, 0.2, 3.0, 3.0, 0.0}, 750, 450, 4), 
-            new Weapon("Godslayer Greatsword, scales with Faith primarily and a bit of Dexterity", "Sacred Swing", "Holy Cleave", "God's Judgement", new double[]{0.6, 0.3, 0.0, 3.5, 0.0}, 650, 400, 5), 
-            new Weapon("Night's Sacred Blade, scales with Arcane primarily and Dexterity secondarily", "Dark Slash", "Shadow Stab", "Moonlit Veil", new double[]{0.0, 1.2, 0.0, 0.0, 4.0}, 600, 350, 4)
-        };
-        
         siteOfGrace(tarnished, weaponWheel);
         
         // Preparing for the encounter with Mohg, Lord of Blood
@@ -544,8 +872,14 @@ public class Main {
         speak("Dearest Miquella. You must abide alone a while. Welcome, honored guest. To the birthplace of our dynasty!");
         
         Boss mohg = new Mohg();
-        fight(weaponWheel, tarnished, mohg);
-        
+        fight(weaponWheel, tarnished, mohg, seeds, recordings, realTime);
+        checkpoint(saves, 7, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 7: the fight with Morgott.
+     */
+    private void morgott() {
         speak("The battle with Mohg is a grueling and intense fight. His blood magic and relentless attacks push you to your limits, requiring you to use every ounce of your strength and skill to survive. Melina’s guidance helps you navigate through the chaos and find the openings to strike.");
         speak("After a taxing and prolonged battle, you manage to defeat Mohg, his form dissolving into a cloud of dark, crimson mist. The lair falls silent, the oppressive atmosphere lifting slightly as you catch your breath.");
         speak("Melina approaches, her expression one of quiet resolve. 'Mohg’s defeat is a testament to your strength and determination,' she says. 'But the final challenge lies ahead—the domain of Morgott, the Omen King.'");
@@ -560,8 +894,14 @@ public class Main {
         speak("Graceless Tarnished. What is thy business with these thrones? Ahh... Godrick the Golden. The twin prodigies, Miquella and Malenia. General Radahn. Praetor Rykard. Lunar Princess Ranni. Wilful traitors, all. Thy kind are all of a piece. Pillagers. Emboldened by the flame of ambition. Have it writ upon thy meagre grave: Felled by King Morgott! Last of all kings.");
         
         Boss morgott = new Morgott();
-        fight(weaponWheel, tarnished, morgott);
-        
+        fight(weaponWheel, tarnished, morgott, seeds, recordings, realTime);
+        checkpoint(saves, 8, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 8: the fight with the Fire Giant.
+     */
+    private void fireGiant() {
         // Boss fight with Morgott, the Omen King
         speak("The clash with Morgott is fierce and relentless. His attacks are swift and devastating, requiring you to use every ounce of skill and strategy to survive.");
         speak("Melina’s guidance proves invaluable as you navigate through Morgott’s dark magic and brutal strikes. Each moment of the battle is a test of your endurance and resolve.");
@@ -577,8 +917,14 @@ public class Main {
         speak("The battle with the Fire Giant is a test of endurance and strategy. His attacks are powerful, and the landscape itself seems to fight against you. Melina’s guidance helps you find the right moments to strike and dodge his blows.");
         
         Boss firegiant = new FireGiant();
-        fight(weaponWheel, tarnished, firegiant);
-        
+        fight(weaponWheel, tarnished, firegiant, seeds, recordings, realTime);
+        checkpoint(saves, 9, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 9: the choice at the Erdtree and the fight with Maliketh.
+     */
+    private void erdtree() {
         // Boss fight with the Fire Giant
         speak("The battle is a relentless struggle, with the Fire Giant’s attacks shaking the very ground beneath you. Each moment is a fight for survival.");
         speak("Molten rock and fiery eruptions add to the chaos of the battle. Every strike and dodge requires careful timing and strategy. Melina’s presence is a source of strength and support.");
@@ -602,10 +948,9 @@ public class Main {
         speak("You are left with a choice that will define the future. The decision to let Melina sacrifice herself or to take her place will shape the outcome of your journey and the fate of the world.");
         
         clearScreen();
-        boolean eldenLord;
         while (true) {
-            System.out.println("Decide.\n1) Let Melina fullfill her mission.\n2) Let chaos take the world.");
-            int answer = input.nextInt();
+            Console.get().println("Decide.\n1) Let Melina fullfill her mission.\n2) Let chaos take the world.");
+            int answer = Console.get().nextInt();
             if (answer == 1) {
                 speak("If you chose to let Melina sacrifice herself: Melina’s resolve is unwavering as she steps forward, ready to make the ultimate sacrifice. 'Thank you for standing by me until the end,' she says, her voice trembling with emotion.");
                 speak("As Melina initiates the sacrifice, the Erdtree is engulfed in a blinding inferno. Her form merges with the flames, and the world changes as the balance of power shifts.");
@@ -639,17 +984,16 @@ public class Main {
         speak("The fight is grueling, requiring every ounce of your strength and strategy. The Clergyman’s form shifts and changes, making each phase of the battle unique and challenging.");
         
         Boss beastClergyman = new BeastClergyman();
-        fight(weaponWheel, tarnished, beastClergyman);
-        
+        fight(weaponWheel, tarnished, beastClergyman, seeds, recordings, realTime);
+        weaponWheel = WeaponWheels.get(4);
+        checkpoint(saves, 10, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 10: the fight with Sir Gideon.
+     */
+    private void gideon() {
         speak("As the battle progresses, Maliketh falls. His immense power is subdued, but the victory comes at a cost. The weight of your journey presses heavily upon you as you prepare for the next challenge.");
-        
-        weaponWheel = new Weapon[] {
-            new Weapon("Great Club, scales with Strength primarily and a bit of Dexterity", "Smash", "Crush", "Earthquake", new double[]{4.0, 0.8, 0.0, 0.0, 0.0}, 800, 700, 6), 
-            new Weapon("Bloodhound's Fang, scales with Dexterity primarily and a bit of Arcane", "Slash", "Bloodletting", "Fang Strike", new double[]{0.8, 3.0, 0.0, 0.0, 1.0}, 700, 350, 4), 
-            new Weapon("Moonveil, scales with Intelligence primarily and Dexterity secondarily", "Lunar Slash", "Starfall", "Moonburst", new double[]{0.5, 0.6, 4.0, 0.0, 0.0}, 800, 500, 4), 
-            new Weapon("Eclipse Shotel, scales with Dexterity primarily and a bit of Strength", "Cut", "Sun Ray", "Eclipse Strike", new double[]{0.9, 3.5, 0.0, 0.0, 0.0}, 650, 350, 3), 
-            new Weapon("Dark Moon Greatsword, scales with Intelligence primarily and a bit of Faith", "Lunar Slash", "Cosmic Ray", "Dark Moon Beam", new double[]{0.0, 0.0, 5.0, 1.0, 0.0}, 850, 600, 5)
-        };
 
         siteOfGrace(tarnished, weaponWheel);
         
@@ -664,8 +1008,14 @@ public class Main {
         speak("The battle with Sir Gideon is a test of both intellect and combat prowess. His attacks are strategic, and his knowledge of the world’s secrets makes him a formidable adversary.");
         
         Boss gideon = new Gideon();
-        fight(weaponWheel, tarnished, gideon);
-        
+        fight(weaponWheel, tarnished, gideon, seeds, recordings, realTime);
+        checkpoint(saves, 11, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 11: the fight with Godfrey.
+     */
+    private void godfrey() {
         speak("The fight is intense, requiring you to anticipate his moves and counter his strategies. Sir Gideon’s power is vast, and each moment of the battle is a test of your skills and understanding.");
         speak("After a prolonged and challenging fight, Sir Gideon falls. His form dissipates, leaving behind the remnants of his vast knowledge and power.");
         
@@ -683,17 +1033,17 @@ public class Main {
         speak("The fight is fierce and unyielding, with Godfrey’s prowess as a warrior pushing you to your limits. Each strike and maneuver must be executed with precision and determination.");
         
         Boss godfrey = new Godfrey();
-        fight(weaponWheel, tarnished, godfrey);
-        
+        fight(weaponWheel, tarnished, godfrey, seeds, recordings, realTime);
+        weaponWheel = WeaponWheels.get(5);
+        checkpoint(saves, 12, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 12: the fight with Malenia.
+     */
+    private void malenia() {
         speak("After a grueling and intense battle, Godfrey falls, his form dissipating into the annals of history. The victory is hard-won, and the path ahead remains uncertain.");
         
-        weaponWheel = new Weapon[] {
-            new Weapon("Grafted Blade Greatsword, scales with Strength primarily and some Dexterity", "Overhead Smash", "Heavy Cleave", "Titan's Wrath", new double[]{5.0, 1.0, 0.0, 0.0, 0.0}, 1000, 800, 8),
-            new Weapon("Reduvia, scales with Dexterity primarily and some Arcane", "Stab", "Flay", "Blood Surge", new double[]{0.8, 3.2, 0.0, 0.0, 1.5}, 900, 500, 5),
-            new Weapon("Carian Regal Scepter, scales with Intelligence primarily and some Faith", "Mystic Bolt", "Arcane Wave", "Regal Barrage", new double[]{0.3, 0.2, 4.8, 1.2, 0.0}, 950, 650, 5),
-            new Weapon("Godslayer's Greatsword, scales with Faith primarily and some Dexterity", "Holy Cleave", "Divine Strike", "God's Wrath", new double[]{0.6, 1.0, 0.0, 4.2, 0.0}, 850, 700, 5),
-            new Weapon("Black Knife, scales with Arcane primarily and some Dexterity", "Shadow Stab", "Silent Cut", "Blackened Blade", new double[]{0.0, 1.7, 0.0, 0.0, 4.0}, 800, 400, 4)
-        };
         siteOfGrace(tarnished, weaponWheel);
         
         // Preparing for the encounter with Malenia, Blade of Miquella/Malenia, Goddess of Rot
@@ -707,8 +1057,14 @@ public class Main {
         speak("The battle with Malenia is a test of endurance and skill. Her attacks are swift and devastating, and her power as the Goddess of Rot is formidable.");
         
         Boss malenia = new Malenia();
-        fight(weaponWheel, tarnished, malenia);
-        
+        fight(weaponWheel, tarnished, malenia, seeds, recordings, realTime);
+        checkpoint(saves, 13, tarnished, weaponWheel, eldenLord);
+    }
+
+    /**
+     * Stage 13: the fight with Radagon and the ending.
+     */
+    private void radagon() {
         speak("The fight is intense, with Malenia’s corruption spreading and affecting the battlefield. Each moment requires careful strategy and precise execution to overcome her power.");
         speak("After a harrowing and challenging fight, Malenia falls, her form dissolving into the rotting landscape. The victory is bittersweet, and the path to the final confrontation remains clear.");
         
@@ -724,11 +1080,13 @@ public class Main {
         speak("The final battle is a monumental clash of divine and cosmic forces. Radagon’s power and the Elden Beast’s energy create a formidable challenge.");
         
         Boss radagon = new Radagon();
-        fight(weaponWheel, tarnished, radagon);
+        fight(weaponWheel, tarnished, radagon, seeds, recordings, realTime);
         
         speak("The fight is epic and relentless, with every attack and maneuver requiring the utmost precision and strategy. The fate of the world rests on this battle.");
         speak("After a titanic struggle, Radagon and the Elden Beast fall. The cosmic energy dissipates, and the world begins to settle into a new reality. The journey’s end is both victorious and tragic.");
         
+        deleteSave(saves);
+
         // Divergence based on the choice
         if (eldenLord) {
             speak("If Melina was sacrificed: You stand victorious but alone. The title of Elden Lord is yours, but the absence of Melina casts a shadow over your triumph. The world is now yours to shape, but the cost of victory is profound.");
@@ -0,0 +1,70 @@
+/**
+ * Plays the optimal policy found by an OptimalSolver.
+ * Combat does not show the controller everything the solver's state holds, so the controller
+ * follows the fight itself: it notices phase changes, which cut the turn short and leave the
+ * last attack's time to be counted on the next action.
+ */
+public class OptimalController implements PlayerController {
+    private OptimalSolver solver; // The solved fight
+    private int phase = 1; // Boss phase at the last decision
+    private boolean ending; // True while in a cool-down that ends the combo after a phase change
+    private int leftover; // Time from before a phase change that Combat has not counted yet
+    private boolean keepLeftover; // True when the last action left the uncounted time in place
+    private int lastAttackTime; // Time of the last attack used
+    private int decision; // The action chosen at the last decision and its choice
+
+    /**
+     * Creates a controller for a solved fight. Use a new controller for each fight.
+     *
+     * @param solver The solver for the fight's player and boss.
+     */
+    public OptimalController(OptimalSolver solver) {
+        this.solver = solver;
+    }
+
+    @Override
+    public int chooseAction(Player player, Enemies enemies, int enemy, int attack, int timeLeft) {
+        if (enemies.getPhase(enemy) != phase) {
+            phase = enemies.getPhase(enemy);
+            leftover = lastAttackTime;
+            ending = attack < 0;
+        } else if (!keepLeftover) {
+            leftover = 0;
+        }
+        if (attack >= 0) ending = false;
+
+        int slot = attack >= 0 ? attack : -1 - attack;
+        decision = solver.bestAction(player.getHp(), player.getHealingTotal(), enemies.getHp(enemy), phase, slot,
+                attack < 0, ending, timeLeft, leftover);
+        int action = decision >>> 16;
+        keepLeftover = action == OptimalSolver.DODGE && attack >= 0 && timeLeft <= 2
+                && enemies.getComboTable(enemy).isSafe(slot, decision & 0xFFFF);
+        if (action == OptimalSolver.ATTACK) lastAttackTime = player.getAttackTime(decision & 0xFFFF);
+        return action;
+    }
+
+    @Override
+    public int chooseAttack(Player player, Enemies enemies) {
+        return decision & 0xFFFF;
+    }
+
+    @Override
+    public int chooseTarget(Player player, Enemies enemies) {
+        return 0; // The solver only plays fights against one boss
+    }
+
+    @Override
+    public int chooseDodge(Enemies enemies, int enemy, int attack) {
+        return decision & 0xFFFF;
+    }
+
+    @Override
+    public int chooseHealTarget(Player player) {
+        return 1;
+    }
+
+    @Override
+    public int chooseWaitTime(int attack, int timeLeft) {
+        return decision & 0xFFFF;
+    }
+}
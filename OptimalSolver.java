@@ -0,0 +1,386 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Computes the best achievable win probability against a boss, and the policy that achieves it,
+ * by memoized dynamic programming over the exact state of a headless Combat.
+ *
+ * The only randomness in a fight is the boss's combo choice, which is weighted over the combos
+ * of its current phase by the situation (see ComboTable). Between combo choices a fight is
+ * deterministic, so the value of the state at the start of a combo is the weighted average over
+ * combos of the best outcome the player can steer that combo to. A combo can also be dodged through without changing anything, which lets the
+ * player wait for a better combo; that choice is solved exactly rather than by iteration.
+ *
+ * States are packed by a CombatStateCodec and cached off the heap, so large bosses can be
+ * solved with tens of millions of states. Focus is left out of the state: the special attack
+ * is never refused for lack of FP, so FP changes nothing in combat.
+ */
+public class OptimalSolver {
+    public static final int ATTACK = 1; // Action numbers match Combat's menu
+    public static final int DODGE = 2;
+    public static final int HEAL = 3;
+    public static final int WAIT = 4;
+
+    private static final int CHARGE = CombatStateCodec.CHARGE; // The attack is charging
+    private static final int COOL = CombatStateCodec.COOL; // The attack's cool-down
+    private static final int ENDING = CombatStateCodec.ENDING; // A cool-down after a phase change, which ends the combo
+    private static final double UNREACHABLE = Double.NEGATIVE_INFINITY;
+
+    private ComboTable table; // The boss's attacks
+    private int[] comboEnd; // Slot after the last attack of each slot's combo
+    private int originalHp; // Boss HP at the start of the fight
+    private int topHp; // Player HP at the start of the fight, which heals cannot exceed
+    private int heals; // Heals at the start of the fight
+    private int[] attackDamage = new int[4]; // Damage of each attack type
+    private int[] attackTime = new int[4]; // Time of each attack type
+
+    private CombatStateCodec codec; // Packs states into cache keys
+    private LongDoubleMap boundaries = new LongDoubleMap(1 << 10); // Value of each combo-start state
+    private LongDoubleMap states = new LongDoubleMap(1 << 16); // Value of each mid-combo state
+    private boolean selfReached; // Whether the combo being solved can end where it started
+
+    /**
+     * Creates a solver for a fight between a player and a boss, both in their starting state.
+     *
+     * @param player The player, with the HP, heals and weapon they start the fight with.
+     * @param boss The boss, at full health.
+     * @throws IllegalArgumentException If an attack takes no time, the weapon has a status effect,
+     *         which the state does not track, or the state does not fit in 63 bits.
+     */
+    public OptimalSolver(Player player, Boss boss) {
+        if (player.getHand().getStatus() != StatusEffects.NONE) {
+            throw new IllegalArgumentException("Weapons with status effects cannot be solved exactly");
+        }
+        this.table = boss.getComboTable();
+        this.originalHp = boss.getOriginalHp();
+        this.topHp = player.getHp();
+        this.heals = player.getHealingTotal();
+        for (int type = 1; type <= 3; type++) {
+            attackDamage[type] = player.getAttackDamage(type);
+            attackTime[type] = player.getAttackTime(type);
+            if (attackTime[type] < 1) {
+                throw new IllegalArgumentException("Attacks must take at least a second to solve a fight");
+            }
+        }
+
+        this.comboEnd = new int[table.size()];
+        for (int combo = 0; combo < table.comboCount(1) + table.comboCount(2); combo++) {
+            for (int slot = table.start(combo); slot < table.end(combo); slot++) {
+                comboEnd[slot] = table.end(combo);
+            }
+        }
+
+        int maxLeftover = Math.max(attackTime[1], Math.max(attackTime[2], attackTime[3]));
+        this.codec = new CombatStateCodec(topHp, 0, heals, originalHp, table, maxLeftover);
+    }
+
+    /**
+     * Solves the fight from its starting state.
+     *
+     * @return The probability of winning with optimal play.
+     */
+    public double winProbability() {
+        return combos(topHp, heals, originalHp, 1, 0);
+    }
+
+    /**
+     * Gets the number of states solved so far.
+     *
+     * @return The number of cached states.
+     */
+    public int getStatesSolved() {
+        return boundaries.size() + states.size();
+    }
+
+    /**
+     * Finds the best action in a fight state.
+     *
+     * @param hp The player's HP.
+     * @param heals The player's heals left.
+     * @param bossHp The boss's HP.
+     * @param phase The boss's phase.
+     * @param slot The slot of the attack being charged or cooling down.
+     * @param cooling True during the attack's cool-down.
+     * @param ending True during a cool-down that follows a phase change.
+     * @param timeLeft The time left before the attack lands or the cool-down ends.
+     * @param leftover Time from the action before a phase change that Combat has not yet counted.
+     * @return The action in the high 16 bits and its choice (attack type, dodge direction or wait time) in the low 16 bits.
+     */
+    public int bestAction(int hp, int heals, int bossHp, int phase, int slot, boolean cooling, boolean ending,
+                          int timeLeft, int leftover) {
+        int stage = !cooling ? CHARGE : ending ? ENDING : COOL;
+        int best = WAIT << 16 | 1;
+        double bestValue = UNREACHABLE;
+        for (int option : options(hp, heals, slot, stage, timeLeft, leftover)) {
+            double value = outcome(hp, heals, bossHp, phase, slot, stage, timeLeft, leftover, option >>> 16, option & 0xFFFF, -1);
+            if (value > bestValue) {
+                bestValue = value;
+                best = option;
+            }
+        }
+        if (best >>> 16 == DODGE) {
+            int direction = table.getDodgeMask()[slot] == 0 ? 1 : table.safeDirection(slot);
+            best = DODGE << 16 | direction;
+        }
+        return best;
+    }
+
+    /**
+     * Solves a combo-start state: the weighted average over the phase's combos of the best outcome of each,
+     * where combos the player can dodge through unchanged may be skipped in favour of a redraw.
+     */
+    private double combos(int hp, int heals, int bossHp, int phase, int leftover) {
+        if (bossHp <= 0) return 1;
+        if (hp <= 0) return 0;
+        long key = key(hp, heals, bossHp, phase, 0, 0, 0, leftover);
+        double cached = boundaries.get(key);
+        if (!Double.isNaN(cached)) return cached;
+
+        boolean saved = selfReached;
+        long self = key;
+        int count = table.comboCount(phase);
+        int situation = ComboTable.situation(phase, bossHp, originalHp, hp, topHp);
+        double[] outcomes = new double[count];
+        boolean[] skippable = new boolean[count];
+        double[] chances = new double[count];
+        for (int i = 0; i < count; i++) {
+            chances[i] = table.probability(phase, situation, i);
+            selfReached = false;
+            outcomes[i] = charge(hp, heals, bossHp, phase, table.start(table.comboIndex(phase, i)), leftover, self);
+            skippable[i] = selfReached;
+        }
+        selfReached = saved;
+
+        double value = withRedraws(outcomes, skippable, chances);
+        boundaries.put(key, value);
+        return value;
+    }
+
+    /**
+     * Finds the best average when the worst skippable combos are redrawn instead of played.
+     * Skipping the k worst skippable combos averages the outcomes of the rest, weighted by their
+     * chances; the best k wins. Combos with no chance of being picked are left out.
+     */
+    private static double withRedraws(double[] outcomes, boolean[] skippable, double[] chances) {
+        int count = outcomes.length;
+        int[] skip = new int[count];
+        int skips = 0;
+        int possible = 0;
+        double sum = 0;
+        double total = 0;
+        int unreachable = 0;
+        for (int i = 0; i < count; i++) {
+            if (chances[i] == 0) continue;
+            possible++;
+            total += chances[i];
+            if (outcomes[i] == UNREACHABLE) unreachable++;
+            else sum += chances[i] * outcomes[i];
+            if (skippable[i]) {
+                // Insertion sort by outcome; phases have only a handful of combos
+                int at = skips++;
+                while (at > 0 && outcomes[skip[at - 1]] > outcomes[i]) {
+                    skip[at] = skip[at - 1];
+                    at--;
+                }
+                skip[at] = i;
+            }
+        }
+
+        double best = unreachable == 0 ? sum / total : UNREACHABLE;
+        for (int k = 1; k <= skips && k < possible; k++) {
+            int skipped = skip[k - 1];
+            if (outcomes[skipped] == UNREACHABLE) unreachable--;
+            else sum -= chances[skipped] * outcomes[skipped];
+            total -= chances[skipped];
+            if (unreachable == 0) best = Math.max(best, sum / total);
+        }
+        return Math.max(best, 0);
+    }
+
+    /**
+     * Enters the charge-up of an attack. Attacks with no charge-up never land.
+     */
+    private double charge(int hp, int heals, int bossHp, int phase, int slot, int leftover, long self) {
+        int time = table.getChargeUp()[slot];
+        if (time > 0) return state(hp, heals, bossHp, phase, slot, CHARGE, time, leftover, self);
+        return cool(hp, heals, bossHp, phase, slot, COOL, leftover, self);
+    }
+
+    /**
+     * Enters the cool-down of an attack.
+     */
+    private double cool(int hp, int heals, int bossHp, int phase, int slot, int stage, int leftover, long self) {
+        int time = table.getCoolDown()[slot];
+        if (time > 0) return state(hp, heals, bossHp, phase, slot, stage, time, leftover, self);
+        return next(hp, heals, bossHp, phase, slot, stage, leftover, self);
+    }
+
+    /**
+     * Moves past a finished cool-down to the next attack, or to the next combo.
+     */
+    private double next(int hp, int heals, int bossHp, int phase, int slot, int stage, int leftover, long self) {
+        if (stage == ENDING || slot + 1 == comboEnd[slot]) {
+            if (key(hp, heals, bossHp, phase, 0, 0, 0, leftover) == self) {
+                selfReached = true;
+                return UNREACHABLE;
+            }
+            return combos(hp, heals, bossHp, phase, leftover);
+        }
+        return charge(hp, heals, bossHp, phase, slot + 1, leftover, self);
+    }
+
+    /**
+     * Lands the charging attack on the player.
+     */
+    private double hit(int hp, int heals, int bossHp, int phase, int slot, long self) {
+        hp -= table.getDamage()[slot];
+        if (hp <= 0) return 0;
+        return cool(hp, heals, bossHp, phase, slot, COOL, 0, self);
+    }
+
+    /**
+     * Solves a decision point in the middle of a combo. States the player reached without changing
+     * anything since the combo started, including time left over from a phase change, are not cached,
+     * because their value excludes ending the combo unchanged, which is accounted for separately by
+     * the redraw choice.
+     */
+    private double state(int hp, int heals, int bossHp, int phase, int slot, int stage, int time, int leftover, long self) {
+        boolean unchanged = key(hp, heals, bossHp, phase, 0, 0, 0, leftover) == self;
+        long key = key(hp, heals, bossHp, phase, slot, stage, time, leftover);
+        if (!unchanged) {
+            double cached = states.get(key);
+            if (!Double.isNaN(cached)) return cached;
+        }
+
+        double best = UNREACHABLE;
+        for (int option : options(hp, heals, slot, stage, time, leftover)) {
+            best = Math.max(best, outcome(hp, heals, bossHp, phase, slot, stage, time, leftover, option >>> 16, option & 0xFFFF, self));
+            if (best >= 1) break; // Nothing beats a certain win
+        }
+
+        if (!unchanged) states.put(key, best);
+        return best;
+    }
+
+    /**
+     * Lists the sensible actions in a state, most promising first.
+     * Healing at full HP and dodging a cool-down with nothing left over change nothing and are left out.
+     */
+    private int[] options(int hp, int heals, int slot, int stage, int time, int leftover) {
+        int[] options = new int[time + 5];
+        int count = 0;
+        for (int type = 3; type >= 1; type--) options[count++] = ATTACK << 16 | type;
+        if (stage == CHARGE || leftover > 0) options[count++] = DODGE << 16;
+        if (heals > 0 && hp < topHp) options[count++] = HEAL << 16 | 1;
+        for (int wait = time - 1; wait >= 1; wait--) options[count++] = WAIT << 16 | wait;
+        options[count++] = WAIT << 16 | time;
+        return Arrays.copyOf(options, count);
+    }
+
+    /**
+     * Applies an action the way Combat does and solves the state it leads to.
+     */
+    private double outcome(int hp, int heals, int bossHp, int phase, int slot, int stage, int time, int leftover,
+                           int action, int choice, long self) {
+        int taken;
+        switch (action) {
+            case ATTACK:
+                bossHp -= attackDamage[choice];
+                if (bossHp <= 0) return 1;
+                if (phase == 1 && bossHp <= Boss.phaseThreshold(originalHp)) {
+                    // The phase change cuts the turn short; the attack's time is counted later
+                    if (stage == CHARGE) return cool(hp, heals, bossHp, 2, slot, ENDING, attackTime[choice], self);
+                    return combos(hp, heals, bossHp, 2, attackTime[choice]);
+                }
+                taken = attackTime[choice];
+                break;
+            case DODGE:
+                if (stage == CHARGE && time <= 2 && table.getDodgeMask()[slot] != 0) {
+                    return cool(hp, heals, bossHp, phase, slot, COOL, leftover, self);
+                }
+                taken = (stage == CHARGE ? 2 : 0) + leftover;
+                break;
+            case HEAL:
+                hp = Math.min(hp + 50, topHp);
+                heals--;
+                taken = 2;
+                break;
+            default:
+                taken = choice;
+        }
+
+        time -= taken;
+        if (time > 0) return state(hp, heals, bossHp, phase, slot, stage, time, 0, self);
+        if (stage == CHARGE) return hit(hp, heals, bossHp, phase, slot, self);
+        return next(hp, heals, bossHp, phase, slot, stage, 0, self);
+    }
+
+    /**
+     * Packs a state into a non-negative long, leaving out FP.
+     */
+    private long key(int hp, int heals, int bossHp, int phase, int slot, int stage, int time, int leftover) {
+        return codec.encode(hp, 0, heals, bossHp, phase, slot, stage, time, leftover);
+    }
+
+    /**
+     * Result of solving one boss for one build.
+     */
+    private static class Solution {
+        String boss;
+        double optimal;
+        int states;
+        long millis;
+        SimulationResult auto;
+    }
+
+    /**
+     * Solves every boss for a sample build in parallel and compares optimal play with the
+     * simulator's automated player.
+     *
+     * @param args Optional number of simulated fights per boss for the comparison.
+     * @throws InterruptedException If interrupted while waiting for the solvers.
+     * @throws ExecutionException If a solver fails.
+     */
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        int fights = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        Weapon greatsword = new Weapon("Greatsword", "Swing", "Slice", "Lion's Claw", new double[]{2, 0.5, 0, 0, 0}, 0, 400, 4);
+        Build build = new Build("Opening", new int[]{5, 0, 0, 10, 0, 0, 0, 0}, greatsword, 2);
+        Simulator simulator = new Simulator();
+
+        // Deep fights recurse deeply, so solver threads get large stacks
+        AtomicInteger threads = new AtomicInteger();
+        ThreadFactory factory = task -> new Thread(null, task, "solver-" + threads.incrementAndGet(), 1L << 28);
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), factory);
+
+        List<Future<Solution>> futures = new ArrayList<>();
+        for (String name : Bosses.names()) {
+            futures.add(executor.submit(() -> {
+                Solution solution = new Solution();
+                long start = System.nanoTime();
+                OptimalSolver solver = new OptimalSolver(build.newPlayer(), Bosses.create(name));
+                solution.boss = name;
+                solution.optimal = solver.winProbability();
+                solution.states = solver.getStatesSolved();
+                solution.millis = (System.nanoTime() - start) / 1_000_000;
+                return solution;
+            }));
+        }
+
+        System.out.println(build);
+        System.out.printf("%-16s %9s %9s %11s %8s%n", "Boss", "Optimal", "Auto", "States", "Time");
+        for (Future<Solution> future : futures) {
+            Solution solution = future.get();
+            solution.auto = simulator.run(build, Bosses.factory(solution.boss), solution.boss, fights);
+            System.out.printf("%-16s %8.2f%% %8.2f%% %11d %6dms%n", solution.boss, solution.optimal * 100,
+                    solution.auto.getWinRate() * 100, solution.states, solution.millis);
+        }
+        executor.shutdown();
+    }
+}
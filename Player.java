@@ -1,5 +1,3 @@
-import java.util.Scanner;
-
 /**
  * Represents the player character in the game.
  * The player has attributes such as health, focus points (FP), stamina, and runes.
@@ -32,34 +30,58 @@ public class Player {
     }
 
     /**
-     * Handles player's attack on the boss, based on the attack type.
+     * Handles player's attack on an enemy, based on the attack type.
      * 
-     * @param boss The boss being attacked.
+     * @param enemies The enemies being fought, such as a Boss.
+     * @param target The index of the enemy being attacked.
      * @param player The player performing the attack.
      * @param type The type of attack: 1 (Light), 2 (Heavy), 3 (Special).
      * @return Time cost of the attack action.
      */
-    public int attack(Boss boss, Player player, int type) {
+    public int attack(Enemies enemies, int target, Player player, int type) {
         switch (type) {
             case 1:
                 clearScreen();
                 speak("You use " + player.getHand().getLight() + "!");
-                speak("You hit for " + boss.loseHp(player.getHand().getNewDamage(player)) + " hp!");
-                return ((player.getHand().getTime()) - (int) player.getStamina() / 10);
+                speak("You hit for " + enemies.loseHp(target, player.getAttackDamage(type)) + " hp!");
+                return player.getAttackTime(type);
             case 2:
                 clearScreen();
                 speak("You use " + player.getHand().getHeavy() + "!");
-                speak("You hit for " + boss.loseHp(player.getHand().getNewDamage(player) * 2) + " hp!");
-                return ((player.getHand().getTime() * 2) - (int) player.getStamina() / 10);
+                speak("You hit for " + enemies.loseHp(target, player.getAttackDamage(type)) + " hp!");
+                return player.getAttackTime(type);
             case 3:
                 clearScreen();
                 speak("You use " + player.getHand().getSpecial() + "!");
-                speak("You hit for " + boss.loseHp(player.getHand().getNewDamage(player) * 2) + " hp!");
-                return ((player.getHand().getTime()) - (int) player.getStamina() / 10);
+                speak("You hit for " + enemies.loseHp(target, player.getAttackDamage(type)) + " hp!");
+                return player.getAttackTime(type);
         }
         return -1;
     }
 
+    /**
+     * Calculates the damage of an attack without performing it.
+     * 
+     * @param type The type of attack: 1 (Light), 2 (Heavy), 3 (Special).
+     * @return The damage the attack deals.
+     */
+    public int getAttackDamage(int type) {
+        if (type == 1) return hand.getNewDamage(this);
+        return hand.getNewDamage(this) * 2;
+    }
+
+    /**
+     * Calculates the time an attack takes without performing it.
+     * Stamina shortens attacks, but never below 1, so an attack always moves the fight on.
+     * 
+     * @param type The type of attack: 1 (Light), 2 (Heavy), 3 (Special).
+     * @return Time cost of the attack action, at least 1.
+     */
+    public int getAttackTime(int type) {
+        if (type == 2) return Math.max(1, (hand.getTime() * 2) - stamina / 10);
+        return Math.max(1, hand.getTime() - stamina / 10);
+    }
+
     /**
      * Handles player's dodge action based on the chosen direction.
      * 
@@ -154,6 +176,10 @@ public class Player {
         return runes;
     }
 
+    public void setRunes(int runes) {
+        this.runes = runes;
+    }
+
     public void spendRunes(int amount) {
         this.runes -= amount;
     }
@@ -207,17 +233,13 @@ public class Player {
      * @param text The text to display to the player.
      */
     public void speak(String text) {
-        Scanner input = new Scanner(System.in);
-        System.out.println(text);
-        input.nextLine(); // Wait for player to press Enter
-        clearScreen();
+        Console.get().speak(text); // Wait for player to press Enter
     }
 
     /**
      * Clears the console screen.
      */
     public void clearScreen() {
-        System.out.print("\033[H\033[2J");
-        System.out.flush();
+        Console.get().clearScreen();
     }
 }
@@ -0,0 +1,66 @@
+/**
+ * Supplies the player's decisions during combat.
+ * Combat asks the controller what to do instead of reading from the console directly,
+ * so a fight can be driven by a person at the keyboard or by an automated policy.
+ * Enemies are identified by their index in the fight's Enemies, and their attacks by their
+ * slot in that enemy's ComboTable. A fight against one boss is a fight against enemy 0.
+ */
+public interface PlayerController {
+
+    /**
+     * Chooses the next action.
+     *
+     * @param player The player making the decision.
+     * @param enemies The enemies being fought.
+     * @param enemy The enemy whose attack comes next.
+     * @param attack The slot of the attack the enemy is charging, or -1 - slot during that attack's cool-down.
+     * @param timeLeft The time left before the attack lands or the cool-down ends.
+     * @return 1 (Attack), 2 (Dodge), 3 (Heal) or 4 (Wait).
+     */
+    int chooseAction(Player player, Enemies enemies, int enemy, int attack, int timeLeft);
+
+    /**
+     * Chooses the type of attack to use.
+     *
+     * @param player The player making the decision.
+     * @param enemies The enemies being fought.
+     * @return 1 (Light), 2 (Heavy) or 3 (Special).
+     */
+    int chooseAttack(Player player, Enemies enemies);
+
+    /**
+     * Chooses which enemy to attack. Only asked while more than one enemy is standing.
+     *
+     * @param player The player making the decision.
+     * @param enemies The enemies being fought.
+     * @return The index of an enemy that has not been slain.
+     */
+    int chooseTarget(Player player, Enemies enemies);
+
+    /**
+     * Chooses the direction to dodge in.
+     *
+     * @param enemies The enemies being fought.
+     * @param enemy The enemy whose attack comes next.
+     * @param attack The slot of the attack the enemy is charging, or -1 - slot during that attack's cool-down.
+     * @return 1 (Forward), 2 (Backward), 3 (Right) or 4 (Left).
+     */
+    int chooseDodge(Enemies enemies, int enemy, int attack);
+
+    /**
+     * Chooses what to heal.
+     *
+     * @param player The player making the decision.
+     * @return 1 (Hp) or 2 (Fp).
+     */
+    int chooseHealTarget(Player player);
+
+    /**
+     * Chooses how long to wait.
+     *
+     * @param attack The slot of the attack the next enemy is charging, or -1 - slot during that attack's cool-down.
+     * @param timeLeft The time left before the attack lands or the cool-down ends.
+     * @return The time to wait in seconds.
+     */
+    int chooseWaitTime(int attack, int timeLeft);
+}
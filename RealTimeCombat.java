@@ -0,0 +1,455 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Plays a fight in real time instead of turn by turn.
+ *
+ * The boss's timeline runs on a fixed-timestep loop of 60 ticks a second, and each second of
+ * an attack's charge-up or cool-down lasts one real second. The player types commands while
+ * the boss attacks; a reader thread turns each line into a command and hands it to the loop
+ * through a single-producer, single-consumer ring, so the loop never waits for input. An
+ * action keeps the player busy for as long as it takes in turn-based Combat, and commands
+ * typed while busy are dropped. A dodge lasts 2 seconds and avoids a safe-direction attack
+ * that lands during any tick of it, so dodge windows are judged in real ticks.
+ *
+ * Each tick sleeps until shortly before its deadline and spins the rest of the way, which
+ * keeps ticks within a millisecond of their schedule on a busy machine. Deadlines are fixed
+ * multiples of the tick length, so lateness never accumulates, and a late tick is caught up
+ * on straight away. Once a fight starts, the fight logic allocates nothing: game text is built
+ * in a reused character buffer, and only the console's writer allocates a little when a tick's
+ * text is flushed.
+ *
+ * Status effects of the player's weapon run on the same ticks, so a burn deals its damage
+ * once a real second.
+ *
+ * Commands are one letter and Enter: j, k and l for light, heavy and special attacks, w, s, d
+ * and a to dodge forward, backward, right and left, h to heal HP and f to heal FP.
+ */
+public class RealTimeCombat {
+    public static final int TICKS_PER_SECOND = 60; // Loop rate, and ticks per second of combat time
+    private static final long TICK_NANOS = 1_000_000_000L / TICKS_PER_SECOND; // Length of a tick
+    private static final long SPIN_NANOS = 1_000_000; // Time before a deadline spent spinning rather than sleeping
+    private static final int MAX_CATCH_UP = 10; // Late ticks run back to back before the schedule is reset
+    private static final int DODGE_SECONDS = 2; // Time a dodge takes, during which a safe attack misses
+
+    private static final int IDLE = 0; // What the player is doing
+    private static final int ATTACKING = 1;
+    private static final int DODGING = 2;
+    private static final int HEALING = 3;
+
+    private static final int CHARGE = 0; // What the boss is doing
+    private static final int COOL = 1;
+    private static final int ENDING = 2; // A cool-down after a phase change, which ends the combo
+
+    private Player player; // The player participating in combat
+    private Boss boss; // The boss the player is fighting
+    private Console console; // Where the fight is shown and commands are read
+    private CommandRing commands = new CommandRing(64); // Commands from the reader thread
+    private volatile boolean finished; // Set once the fight ends, so the reader stops
+    private char[] line = new char[256]; // Reused buffer for game text
+    private int length; // Characters in the buffer
+    private boolean printed; // True when text has been written since the last flush
+
+    private int topHp; // The player's HP at the start, which heals cannot exceed
+    private int topFp; // The player's FP at the start
+    private int action = IDLE; // What the player is doing
+    private int direction; // Direction of the current dodge
+    private int busyTicks; // Ticks until the player can act again
+
+    private int stage; // What the boss is doing
+    private int slot; // Combo table slot of the boss's current attack
+    private int comboEnd; // Slot after the last attack of the boss's combo
+    private int bossTicks; // Ticks until the boss's attack lands or its cool-down ends
+    private StatusEffects effects; // Status effects of the player's weapon, or null for a weapon without one
+
+    private long ticks; // Ticks the fight has run
+    private long worstLateNanos; // Furthest any tick started past its deadline
+    private long lateTicks; // Ticks that started more than a millisecond late
+
+    /**
+     * Creates a real-time fight.
+     *
+     * @param player The player participating in the combat.
+     * @param boss The boss the player is fighting.
+     * @param console The console to show the fight on and read commands from.
+     * @param seed The seed for the boss's combo choices.
+     */
+    public RealTimeCombat(Player player, Boss boss, Console console, long seed) {
+        this.player = player;
+        this.boss = boss;
+        this.console = console;
+        boss.setSeed(seed);
+    }
+
+    /**
+     * Runs the fight until one side falls, then waits for the player to press Enter,
+     * which also stops the reader thread before the console is used again.
+     *
+     * @return True if the player wins, false if the player loses.
+     * @throws InterruptedException If interrupted while waiting for the reader thread.
+     */
+    public boolean start() throws InterruptedException {
+        topHp = player.getHp();
+        topFp = player.getFp();
+        Weapon hand = player.getHand();
+        if (hand.getStatus() != StatusEffects.NONE) effects = new StatusEffects(hand, 1, TICKS_PER_SECOND);
+        console.clearScreen();
+        console.println("Real time! j/k/l attack, w/s/d/a dodge, h heal HP, f heal FP, then Enter.");
+        status();
+
+        Thread reader = new Thread(this::readCommands, "combat-input");
+        reader.setDaemon(true);
+        reader.start();
+
+        nextCombo();
+        int outcome = 0;
+        long deadline = System.nanoTime();
+        int behind = 0;
+        while (outcome == 0) {
+            outcome = tick();
+            ticks++;
+            if (printed) {
+                console.flush();
+                printed = false;
+            }
+
+            deadline += TICK_NANOS;
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > SPIN_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_NANOS);
+            }
+            while (deadline - System.nanoTime() > 0) {
+                Thread.onSpinWait();
+            }
+            long late = System.nanoTime() - deadline;
+            if (late > worstLateNanos) worstLateNanos = late;
+            if (late > 1_000_000) lateTicks++;
+            if (late >= TICK_NANOS && ++behind > MAX_CATCH_UP) {
+                deadline = System.nanoTime(); // Too far behind to catch up; start the schedule again
+                behind = 0;
+            } else if (late < TICK_NANOS) {
+                behind = 0;
+            }
+        }
+
+        finished = true;
+        console.println("Press Enter to continue.");
+        console.flush();
+        reader.join();
+        return outcome > 0;
+    }
+
+    /**
+     * Advances the fight by one tick.
+     *
+     * @return 0 to keep fighting, 1 if the player won, -1 if the player lost.
+     */
+    private int tick() {
+        if (busyTicks > 0 && --busyTicks == 0) action = IDLE;
+        int command = commands.poll();
+        if (command >= 0 && action == IDLE) {
+            int outcome = act(command);
+            if (outcome != 0) return outcome;
+        }
+        if (effects != null && effects.isActive()) {
+            boolean hurt = false;
+            int effect;
+            while ((effect = effects.poll(ticks)) >= 0) {
+                boss.loseHp(effects.getLastDamage());
+                statusDamage(effect, effects.getLastDamage());
+                hurt = true;
+            }
+            if (hurt) {
+                int outcome = damaged();
+                if (outcome != 0) return outcome;
+            }
+        }
+
+        if (--bossTicks > 0) return 0;
+        if (stage == CHARGE) {
+            ComboTable table = boss.getComboTable();
+            if (action == DODGING && table.isSafe(slot, direction)) {
+                print("Successfully dodged attack!");
+            } else {
+                int damage = table.getDamage()[slot];
+                player.setHp(player.getHp() - damage);
+                begin().append("You were hit for ").append(damage).append("!").emit();
+                if (player.getHp() <= 0) {
+                    print(boss.getWinLine());
+                    print("You died");
+                    return -1;
+                }
+                status();
+            }
+            cool(COOL);
+        } else if (stage == ENDING || slot + 1 == comboEnd) {
+            nextCombo();
+        } else {
+            charge(slot + 1);
+        }
+        return 0;
+    }
+
+    /**
+     * Starts the player's command.
+     *
+     * @return 0 to keep fighting, or 1 if the command killed the boss.
+     */
+    private int act(int command) {
+        int type = command & 0xFF;
+        switch (command >>> 8) {
+            case ATTACKING:
+                if (type == 3) player.setFp(player.getFp() - 50);
+                int damage = boss.loseHp(player.getAttackDamage(type));
+                Weapon hand = player.getHand();
+                begin().append("You use ").append(type == 1 ? hand.getLight() : type == 2 ? hand.getHeavy() : hand.getSpecial())
+                        .append(" and hit for ").append(damage).append("!").emit();
+                start(ATTACKING, player.getAttackTime(type));
+                if (effects != null) {
+                    int extra = effects.hit(0, boss.getOriginalHp(), type, damage, ticks);
+                    if (extra > 0) statusDamage(effects.getStatus(), boss.loseHp(extra));
+                }
+                return damaged();
+            case DODGING:
+                direction = type;
+                start(DODGING, DODGE_SECONDS);
+                break;
+            case HEALING:
+                if (player.getHealingTotal() == 0) {
+                    print("Out of heals!");
+                    break;
+                }
+                player.setHealingTotal(player.getHealingTotal() - 1);
+                start(HEALING, player.heal(player, type == 1, type == 1 ? topHp : topFp));
+                status();
+                break;
+        }
+        return 0;
+    }
+
+    /**
+     * Ends the fight if the boss has fallen, or changes its phase if it has reached the threshold.
+     *
+     * @return 0 to keep fighting, or 1 if the boss is dead.
+     */
+    private int damaged() {
+        if (boss.getHp() <= 0) {
+            print(boss.getDeathLine());
+            print("Foe Slain");
+            return 1;
+        }
+        if (boss.reachedPhaseThreshold()) {
+            // As in Combat, a charging attack goes straight to a cool-down that ends the combo,
+            // and a cool-down is cut short by the next combo
+            boss.setPhase(2);
+            print(boss.getPhaseLine());
+            if (stage == CHARGE) cool(ENDING);
+            else nextCombo();
+        }
+        status();
+        return 0;
+    }
+
+    /**
+     * Prints damage a status effect dealt to the boss.
+     */
+    private void statusDamage(int effect, int damage) {
+        begin().append(boss.getName()).append(" takes ").append(damage).append(" ")
+                .append(StatusEffects.name(effect)).append(" damage!").emit();
+    }
+
+    /**
+     * Keeps the player busy with an action for a number of combat seconds.
+     */
+    private void start(int action, int seconds) {
+        this.action = action;
+        this.busyTicks = Math.max(1, seconds * TICKS_PER_SECOND);
+    }
+
+    /**
+     * Picks the boss's next combo and starts its first attack.
+     */
+    private void nextCombo() {
+        ComboTable table = boss.getComboTable();
+        int combo = boss.chooseComboIndex(player.getHp(), topHp);
+        comboEnd = table.end(combo);
+        charge(table.start(combo));
+    }
+
+    /**
+     * Starts charging an attack. Attacks with no charge-up never land, as in Combat.
+     */
+    private void charge(int slot) {
+        ComboTable table = boss.getComboTable();
+        this.slot = slot;
+        int time = table.getChargeUp()[slot];
+        if (time <= 0) {
+            cool(COOL);
+            return;
+        }
+        stage = CHARGE;
+        bossTicks = time * TICKS_PER_SECOND;
+        print(table.getLine(slot));
+    }
+
+    /**
+     * Starts the cool-down of the boss's current attack.
+     */
+    private void cool(int stage) {
+        this.stage = stage;
+        // A zero cool-down still lasts a tick, so a combo of empty attacks cannot stall the loop
+        bossTicks = Math.max(1, boss.getComboTable().getCoolDown()[slot] * TICKS_PER_SECOND);
+    }
+
+    /**
+     * Prints both sides' health.
+     */
+    private void status() {
+        begin().append("Health: ").append(player.getHp()).append("  Focus: ").append(player.getFp())
+                .append("  Heals: ").append(player.getHealingTotal())
+                .append("  Boss Health: ").append(boss.getHp()).emit();
+    }
+
+    /**
+     * Reads commands until the fight is over. Runs on its own thread, the only one reading the console meanwhile.
+     */
+    private void readCommands() {
+        try {
+            while (!finished) {
+                String text = console.nextLine().trim();
+                if (finished || text.isEmpty()) continue;
+                int command = parse(text.charAt(0));
+                if (command >= 0) commands.offer(command);
+            }
+        } catch (NoSuchElementException e) {
+            // Input has closed; the fight plays out without the player
+        }
+    }
+
+    /**
+     * Turns a command letter into an action in the high bits and its choice in the low 8 bits.
+     *
+     * @return The command, or -1 for an unknown letter.
+     */
+    private static int parse(char letter) {
+        switch (Character.toLowerCase(letter)) {
+            case 'j': return ATTACKING << 8 | 1;
+            case 'k': return ATTACKING << 8 | 2;
+            case 'l': return ATTACKING << 8 | 3;
+            case 'w': return DODGING << 8 | 1;
+            case 's': return DODGING << 8 | 2;
+            case 'd': return DODGING << 8 | 3;
+            case 'a': return DODGING << 8 | 4;
+            case 'h': return HEALING << 8 | 1;
+            case 'f': return HEALING << 8 | 2;
+            default: return -1;
+        }
+    }
+
+    /**
+     * Gets the number of ticks the fight ran.
+     *
+     * @return The ticks, at TICKS_PER_SECOND.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Gets how far past its deadline the latest tick started.
+     *
+     * @return The worst lateness in nanoseconds.
+     */
+    public long getWorstLateNanos() {
+        return worstLateNanos;
+    }
+
+    /**
+     * Gets the number of ticks that started more than a millisecond late.
+     *
+     * @return The late ticks.
+     */
+    public long getLateTicks() {
+        return lateTicks;
+    }
+
+    private void print(String text) {
+        begin().append(text).emit();
+    }
+
+    private RealTimeCombat begin() {
+        length = 0;
+        return this;
+    }
+
+    private RealTimeCombat append(String text) {
+        int count = Math.min(text.length(), line.length - length);
+        text.getChars(0, count, line, length);
+        length += count;
+        return this;
+    }
+
+    private RealTimeCombat append(int value) {
+        if (value < 0) {
+            append("-");
+            value = -value;
+        }
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) digits++;
+        if (length + digits > line.length) return this;
+        for (int at = length + digits - 1; at >= length; at--) {
+            line[at] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    private void emit() {
+        console.print(line, length);
+        console.println();
+        printed = true;
+    }
+
+    /**
+     * A bounded queue of int commands between one producer thread and one consumer thread.
+     * Each side only writes its own counter, published with a release store, so neither locks
+     * and nothing is allocated after construction.
+     */
+    private static class CommandRing {
+        private final int[] buffer; // Commands, indexed by counter modulo capacity
+        private final int mask; // Capacity minus one
+        private final AtomicLong written = new AtomicLong(); // Commands offered, written only by the producer
+        private final AtomicLong read = new AtomicLong(); // Commands polled, written only by the consumer
+
+        CommandRing(int capacity) {
+            this.buffer = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        /**
+         * Adds a command, or drops it if the ring is full. Producer only.
+         */
+        boolean offer(int command) {
+            long at = written.get();
+            if (at - read.get() == buffer.length) return false;
+            buffer[(int) at & mask] = command;
+            written.lazySet(at + 1);
+            return true;
+        }
+
+        /**
+         * Takes the oldest command. Consumer only.
+         *
+         * @return The command, or -1 if there is none.
+         */
+        int poll() {
+            long at = read.get();
+            if (at == written.get()) return -1;
+            int command = buffer[(int) at & mask];
+            read.lazySet(at + 1);
+            return command;
+        }
+    }
+}
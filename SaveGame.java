@@ -0,0 +1,390 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A snapshot of a campaign at a checkpoint: the player, their weapon, the weapon wheel on
+ * offer and how far the story has come, so a game can be continued without replaying it.
+ * Changes since the snapshot are kept in a Journal.
+ *
+ * Saves are small binary files read and written whole through a FileChannel. After a magic
+ * number and a version, the file is a list of tagged fields, each a 2-byte tag, a 4-byte
+ * length and the value; the player, weapons and wheel are nested lists of the same kind.
+ * Readers skip tags they do not know and leave fields that are missing at their defaults, so
+ * adding or dropping a field never breaks old saves, and the version only changes when a
+ * field changes meaning. A save is written to a temporary file and moved over the old one, so
+ * a crash mid-write leaves the previous save intact.
+ */
+public class SaveGame {
+    private static final int MAGIC = 0x45525347; // "ERSG"
+    private static final short VERSION = 1; // Newest format this class reads and writes
+
+    // Tags of the save's own fields
+    private static final short STAGE = 1;
+    private static final short ELDEN_LORD = 2;
+    private static final short PLAYER = 3;
+    private static final short WHEEL = 4;
+
+    // Tags of a player's fields
+    private static final short NAME = 1;
+    private static final short HP = 2;
+    private static final short FP = 3;
+    private static final short STAMINA = 4;
+    private static final short STATS = 5;
+    private static final short RUNES = 6;
+    private static final short HEALING_TOTAL = 7;
+    private static final short HAND = 8;
+
+    // Tags of a weapon's fields; NAME is shared with the player
+    private static final short LIGHT = 2;
+    private static final short HEAVY = 3;
+    private static final short SPECIAL = 4;
+    private static final short SCALING = 5;
+    private static final short PRICE = 6;
+    private static final short DAMAGE = 7;
+    private static final short TIME = 8;
+    private static final short LEVEL = 9;
+    private static final short UPGRADE_PRICE = 10;
+    private static final short STATUS = 11;
+    private static final short STATUS_POWER = 12;
+
+    // Tag of each weapon in a wheel
+    private static final short WEAPON = 1;
+
+    private int stage; // Checkpoint in the campaign the save resumes from
+    private boolean eldenLord; // Whether Melina was let fulfil her mission
+    private Player player; // Copy of the player
+    private Weapon[] wheel; // Copies of the weapons on offer
+
+    private SaveGame() {
+    }
+
+    /**
+     * Captures a campaign at a checkpoint.
+     *
+     * @param stage The checkpoint the save resumes from.
+     * @param player The player.
+     * @param wheel The weapons on offer.
+     * @param eldenLord Whether Melina was let fulfil her mission.
+     * @return A save holding copies of the player and weapons.
+     */
+    public static SaveGame of(int stage, Player player, Weapon[] wheel, boolean eldenLord) {
+        SaveGame save = new SaveGame();
+        save.stage = stage;
+        save.eldenLord = eldenLord;
+        save.player = copy(player);
+        save.wheel = copy(wheel);
+        return save;
+    }
+
+    public int getStage() {
+        return stage;
+    }
+
+    public boolean isEldenLord() {
+        return eldenLord;
+    }
+
+    /**
+     * Creates the saved player, with a copy of their weapon.
+     *
+     * @return A new player.
+     */
+    public Player newPlayer() {
+        return copy(player);
+    }
+
+    /**
+     * Creates the saved weapon wheel.
+     *
+     * @return New copies of the weapons on offer.
+     */
+    public Weapon[] getWheel() {
+        return copy(wheel);
+    }
+
+    /**
+     * Writes the save, replacing any earlier save at the same path.
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        Writer out = new Writer();
+        out.buffer.putInt(MAGIC);
+        out.buffer.putShort(VERSION);
+        out.putInt(STAGE, stage);
+        out.putInt(ELDEN_LORD, eldenLord ? 1 : 0);
+        int at = out.begin(PLAYER);
+        writePlayer(out, player);
+        out.end(at);
+        at = out.begin(WHEEL);
+        for (Weapon weapon : wheel) {
+            int weaponAt = out.begin(WEAPON);
+            writeWeapon(out, weapon);
+            out.end(weaponAt);
+        }
+        out.end(at);
+
+        ByteBuffer bytes = out.buffer.flip();
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = parent.resolve(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (bytes.hasRemaining()) channel.write(bytes);
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads a save.
+     *
+     * @param file The file to read.
+     * @return The save.
+     * @throws IOException If the file cannot be read, is not a save or comes from a newer version of the game.
+     */
+    public static SaveGame read(Path file) throws IOException {
+        ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new IOException(file + " is not a save");
+            in = ByteBuffer.allocate((int) size);
+            while (in.hasRemaining() && channel.read(in) >= 0) {
+                // Keep reading until the file is in memory
+            }
+        }
+        in.flip().order(ByteOrder.BIG_ENDIAN);
+        try {
+            if (in.getInt() != MAGIC) throw new IOException(file + " is not a save");
+            short version = in.getShort();
+            if (version > VERSION) throw new IOException(file + " was saved by a newer version of the game (" + version + ")");
+
+            SaveGame save = new SaveGame();
+            save.player = new Player("Tarnished");
+            save.wheel = new Weapon[0];
+            while (in.hasRemaining()) {
+                short tag = in.getShort();
+                ByteBuffer value = field(in);
+                switch (tag) {
+                    case STAGE: save.stage = value.getInt(); break;
+                    case ELDEN_LORD: save.eldenLord = value.getInt() != 0; break;
+                    case PLAYER: save.player = readPlayer(value); break;
+                    case WHEEL: save.wheel = readWheel(value); break;
+                    default: break; // A field from a later version
+                }
+            }
+            return save;
+        } catch (RuntimeException e) {
+            // BufferUnderflowException and friends: the file ends mid-field
+            throw new IOException(file + " is damaged", e);
+        }
+    }
+
+    private static void writePlayer(Writer out, Player player) {
+        out.putString(NAME, player.getName());
+        out.putInt(HP, player.getHp());
+        out.putInt(FP, player.getFp());
+        out.putInt(STAMINA, player.getStamina());
+        out.putInts(STATS, player.getStats());
+        out.putInt(RUNES, player.getRunes());
+        out.putInt(HEALING_TOTAL, player.getHealingTotal());
+        int at = out.begin(HAND);
+        writeWeapon(out, player.getHand());
+        out.end(at);
+    }
+
+    private static Player readPlayer(ByteBuffer in) {
+        Player player = new Player("Tarnished");
+        while (in.hasRemaining()) {
+            short tag = in.getShort();
+            ByteBuffer value = field(in);
+            switch (tag) {
+                case NAME: player.setName(string(value)); break;
+                case HP: player.setHp(value.getInt()); break;
+                case FP: player.setFp(value.getInt()); break;
+                case STAMINA: player.setStamina(value.getInt()); break;
+                case STATS:
+                    int[] stats = new int[8];
+                    for (int i = 0; i < stats.length && value.hasRemaining(); i++) stats[i] = value.getInt();
+                    player.setStats(stats);
+                    break;
+                case RUNES: player.setRunes(value.getInt()); break;
+                case HEALING_TOTAL: player.setHealingTotal(value.getInt()); break;
+                case HAND: player.setHand(readWeapon(value)); break;
+                default: break;
+            }
+        }
+        return player;
+    }
+
+    private static void writeWeapon(Writer out, Weapon weapon) {
+        out.putString(NAME, weapon.getName());
+        out.putString(LIGHT, weapon.getLight());
+        out.putString(HEAVY, weapon.getHeavy());
+        out.putString(SPECIAL, weapon.getSpecial());
+        out.putDoubles(SCALING, weapon.getScaling());
+        out.putInt(PRICE, weapon.getPrice());
+        out.putInt(DAMAGE, weapon.getDamage());
+        out.putInt(TIME, weapon.getTime());
+        out.putInt(LEVEL, weapon.getLevel());
+        out.putInt(UPGRADE_PRICE, weapon.getUpgradePrice());
+        out.putInt(STATUS, weapon.getStatus());
+        out.putInt(STATUS_POWER, weapon.getStatusPower());
+    }
+
+    private static Weapon readWeapon(ByteBuffer in) {
+        Weapon defaults = new Weapon();
+        String name = defaults.getName();
+        String light = defaults.getLight();
+        String heavy = defaults.getHeavy();
+        String special = defaults.getSpecial();
+        double[] scaling = defaults.getScaling();
+        int price = defaults.getPrice();
+        int damage = defaults.getDamage();
+        int time = defaults.getTime();
+        int level = defaults.getLevel();
+        int upgradePrice = defaults.getUpgradePrice();
+        int status = StatusEffects.NONE;
+        int statusPower = 0;
+        while (in.hasRemaining()) {
+            short tag = in.getShort();
+            ByteBuffer value = field(in);
+            switch (tag) {
+                case NAME: name = string(value); break;
+                case LIGHT: light = string(value); break;
+                case HEAVY: heavy = string(value); break;
+                case SPECIAL: special = string(value); break;
+                case SCALING:
+                    scaling = new double[value.remaining() / Double.BYTES];
+                    for (int i = 0; i < scaling.length; i++) scaling[i] = value.getDouble();
+                    break;
+                case PRICE: price = value.getInt(); break;
+                case DAMAGE: damage = value.getInt(); break;
+                case TIME: time = value.getInt(); break;
+                case LEVEL: level = value.getInt(); break;
+                case UPGRADE_PRICE: upgradePrice = value.getInt(); break;
+                case STATUS: status = value.getInt(); break;
+                case STATUS_POWER: statusPower = value.getInt(); break;
+                default: break;
+            }
+        }
+        Weapon weapon = new Weapon(name, light, heavy, special, scaling, price, damage, time, status, statusPower);
+        weapon.setLevel(level);
+        weapon.setUpgradePrice(upgradePrice);
+        return weapon;
+    }
+
+    private static Weapon[] readWheel(ByteBuffer in) {
+        List<Weapon> weapons = new ArrayList<>();
+        while (in.hasRemaining()) {
+            short tag = in.getShort();
+            ByteBuffer value = field(in);
+            if (tag == WEAPON) weapons.add(readWeapon(value));
+        }
+        return weapons.toArray(new Weapon[0]);
+    }
+
+    /**
+     * Takes the next field's value off a buffer, after its tag has been read.
+     */
+    private static ByteBuffer field(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) throw new IllegalStateException("Field runs past its record");
+        ByteBuffer value = in.slice(in.position(), length);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static String string(ByteBuffer value) {
+        byte[] bytes = new byte[value.remaining()];
+        value.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Player copy(Player player) {
+        Player copy = new Player(player.getName());
+        copy.setHp(player.getHp());
+        copy.setFp(player.getFp());
+        copy.setStamina(player.getStamina());
+        copy.setStats(Arrays.copyOf(player.getStats(), player.getStats().length));
+        copy.setRunes(player.getRunes());
+        copy.setHealingTotal(player.getHealingTotal());
+        copy.setHand(player.getHand().copy());
+        return copy;
+    }
+
+    private static Weapon[] copy(Weapon[] wheel) {
+        Weapon[] copy = new Weapon[wheel.length];
+        for (int i = 0; i < wheel.length; i++) copy[i] = wheel[i].copy();
+        return copy;
+    }
+
+    /**
+     * Builds tagged fields in a growing buffer.
+     */
+    private static class Writer {
+        private ByteBuffer buffer = ByteBuffer.allocate(1024); // The bytes written so far
+
+        void putInt(short tag, int value) {
+            room(10);
+            buffer.putShort(tag).putInt(Integer.BYTES).putInt(value);
+        }
+
+        void putString(short tag, String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            room(6 + bytes.length);
+            buffer.putShort(tag).putInt(bytes.length).put(bytes);
+        }
+
+        void putInts(short tag, int[] values) {
+            room(6 + values.length * Integer.BYTES);
+            buffer.putShort(tag).putInt(values.length * Integer.BYTES);
+            for (int value : values) buffer.putInt(value);
+        }
+
+        void putDoubles(short tag, double[] values) {
+            room(6 + values.length * Double.BYTES);
+            buffer.putShort(tag).putInt(values.length * Double.BYTES);
+            for (double value : values) buffer.putDouble(value);
+        }
+
+        /**
+         * Starts a field whose value is written next as more fields, such as a nested record.
+         *
+         * @return Where the field's length goes, for end.
+         */
+        int begin(short tag) {
+            room(6);
+            buffer.putShort(tag);
+            int at = buffer.position();
+            buffer.putInt(0);
+            return at;
+        }
+
+        /**
+         * Fills in the length of a field started with begin.
+         */
+        void end(int at) {
+            buffer.putInt(at, buffer.position() - at - Integer.BYTES);
+        }
+
+        private void room(int bytes) {
+            if (buffer.remaining() >= bytes) return;
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            buffer.flip();
+            bigger.put(buffer);
+            buffer = bigger;
+        }
+    }
+}
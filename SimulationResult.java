@@ -0,0 +1,130 @@
+/**
+ * Summary of a batch of simulated fights between one build and one boss.
+ * Intervals are 95% confidence intervals: Wilson score for the win probability
+ * and the normal approximation for the means.
+ */
+public class SimulationResult {
+    private static final double Z = 1.96; // 95% confidence
+
+    private String boss; // Name of the boss fought
+    private long fights; // Number of fights simulated
+    private long wins; // Number of fights the player won
+    private double meanLength; // Mean fight length in seconds
+    private double lengthStdDev; // Standard deviation of fight length
+    private double meanHp; // Mean player HP left at the end of a fight
+    private double hpStdDev; // Standard deviation of HP left
+
+    /**
+     * Creates a result from raw totals.
+     *
+     * @param boss The name of the boss fought.
+     * @param fights The number of fights.
+     * @param wins The number of wins.
+     * @param lengthSum The sum of fight lengths.
+     * @param lengthSquares The sum of squared fight lengths.
+     * @param hpSum The sum of HP left.
+     * @param hpSquares The sum of squared HP left.
+     */
+    public SimulationResult(String boss, long fights, long wins, double lengthSum, double lengthSquares, double hpSum, double hpSquares) {
+        this.boss = boss;
+        this.fights = fights;
+        this.wins = wins;
+        this.meanLength = lengthSum / fights;
+        this.lengthStdDev = Math.sqrt(Math.max(0, lengthSquares / fights - meanLength * meanLength));
+        this.meanHp = hpSum / fights;
+        this.hpStdDev = Math.sqrt(Math.max(0, hpSquares / fights - meanHp * meanHp));
+    }
+
+    public String getBoss() {
+        return boss;
+    }
+
+    public long getFights() {
+        return fights;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Gets the observed win probability.
+     *
+     * @return Wins divided by fights.
+     */
+    public double getWinRate() {
+        return (double) wins / fights;
+    }
+
+    /**
+     * Gets the lower bound of the Wilson score interval for the win probability.
+     *
+     * @return The lower bound.
+     */
+    public double getWinRateLow() {
+        return wilsonCentre() - wilsonHalfWidth();
+    }
+
+    /**
+     * Gets the upper bound of the Wilson score interval for the win probability.
+     *
+     * @return The upper bound.
+     */
+    public double getWinRateHigh() {
+        return wilsonCentre() + wilsonHalfWidth();
+    }
+
+    /**
+     * Gets half the width of the win probability interval.
+     *
+     * @return The half width.
+     */
+    public double getWinRateHalfWidth() {
+        return wilsonHalfWidth();
+    }
+
+    public double getMeanLength() {
+        return meanLength;
+    }
+
+    /**
+     * Gets half the width of the confidence interval for the mean fight length.
+     *
+     * @return The half width in seconds.
+     */
+    public double getMeanLengthHalfWidth() {
+        return Z * lengthStdDev / Math.sqrt(fights);
+    }
+
+    public double getMeanHp() {
+        return meanHp;
+    }
+
+    /**
+     * Gets half the width of the confidence interval for the mean HP left.
+     *
+     * @return The half width in HP.
+     */
+    public double getMeanHpHalfWidth() {
+        return Z * hpStdDev / Math.sqrt(fights);
+    }
+
+    private double wilsonCentre() {
+        double p = getWinRate();
+        double z2 = Z * Z;
+        return (p + z2 / (2 * fights)) / (1 + z2 / fights);
+    }
+
+    private double wilsonHalfWidth() {
+        double p = getWinRate();
+        double z2 = Z * Z;
+        return Z * Math.sqrt(p * (1 - p) / fights + z2 / (4.0 * fights * fights)) / (1 + z2 / fights);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-15s fights %8d  win %6.2f%% [%6.2f, %6.2f]  length %8.1f +- %.1f  hp left %7.1f +- %.1f",
+                boss, fights, getWinRate() * 100, getWinRateLow() * 100, getWinRateHigh() * 100,
+                meanLength, getMeanLengthHalfWidth(), meanHp, getMeanHpHalfWidth());
+    }
+}
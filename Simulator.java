@@ -0,0 +1,249 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Monte Carlo estimator of how a build fares against a boss.
+ * Runs headless fights in parallel on a fork-join pool and reports the win
+ * probability, fight length and HP left with confidence intervals.
+ *
+ * Fight i of a run draws from stream i of the simulator's seed (see RandomStreams), and tasks
+ * split and combine their fights in a fixed order, so a run gives bit-identical results
+ * whatever the pool's size and however its threads steal work.
+ */
+public class Simulator {
+    private static final int SPLIT_THRESHOLD = 256; // Fights per leaf task
+
+    private ForkJoinPool pool; // Pool running the fights
+    private double dodgeSkill; // Dodge accuracy of the automated player
+    private double healBelow; // HP fraction at which the automated player heals
+    private int batchSize; // Fights run between early-stopping checks
+    private long seed; // Root seed of every fight's random stream
+
+    /**
+     * Creates a simulator using every core and a fairly skilled automated player.
+     */
+    public Simulator() {
+        this(ForkJoinPool.commonPool(), 0.8, 0.3, 2000);
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param pool The fork-join pool to run fights on.
+     * @param dodgeSkill Chance (0 to 1) that the automated player dodges in a safe direction.
+     * @param healBelow Fraction (0 to 1) of starting HP below which the automated player heals.
+     * @param batchSize Number of fights run between early-stopping checks.
+     */
+    public Simulator(ForkJoinPool pool, double dodgeSkill, double healBelow, int batchSize) {
+        this.pool = pool;
+        this.dodgeSkill = dodgeSkill;
+        this.healBelow = healBelow;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets the root seed the fights' random streams are derived from. The default is 0.
+     *
+     * @param seed The root seed.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Runs a fixed number of fights.
+     *
+     * @param build The build the player uses.
+     * @param boss Factory for fresh bosses.
+     * @param bossName The boss name used in the result.
+     * @param fights The number of fights to run.
+     * @return The summary of all fights.
+     */
+    public SimulationResult run(Build build, Supplier<Boss> boss, String bossName, int fights) {
+        Tally tally = pool.invoke(new FightTask(build, boss, 0, fights));
+        return tally.toResult(bossName);
+    }
+
+    /**
+     * Runs fights in batches until the win probability interval is narrow enough.
+     *
+     * @param build The build the player uses.
+     * @param boss Factory for fresh bosses.
+     * @param bossName The boss name used in the result.
+     * @param halfWidth Stop once the win probability interval is at most this wide on each side.
+     * @param maxFights Stop after this many fights regardless.
+     * @return The summary of all fights run.
+     */
+    public SimulationResult runUntil(Build build, Supplier<Boss> boss, String bossName, double halfWidth, int maxFights) {
+        Tally total = new Tally();
+        while (total.fights < maxFights) {
+            int batch = (int) Math.min(batchSize, maxFights - total.fights);
+            total.add(pool.invoke(new FightTask(build, boss, total.fights, total.fights + batch)));
+            if (total.toResult(bossName).getWinRateHalfWidth() <= halfWidth) {
+                break;
+            }
+        }
+        return total.toResult(bossName);
+    }
+
+    /**
+     * Runs fights for a fighter described only by what matters in combat, on the current thread.
+     * Fight i draws from the same stream for every fighter, so two fighters scored with the same
+     * number of fights face exactly the same combos.
+     *
+     * @param boss The name of the boss to fight.
+     * @param hp The fighter's HP.
+     * @param damage The fighter's light attack damage; heavy and special attacks do double.
+     * @param time The fighter's light attack time.
+     * @param heals The fighter's heals.
+     * @param fights The number of fights to run.
+     * @return The summary of all fights.
+     */
+    public SimulationResult runSeeded(String boss, int hp, int damage, int time, int heals, int fights) {
+        return runSeeded(boss, hp, damage, time, StatusEffects.NONE, 0, heals, fights);
+    }
+
+    /**
+     * Runs fights for a fighter described only by what matters in combat, on the current thread,
+     * with a weapon whose hits carry a status effect.
+     *
+     * @param boss The name of the boss to fight.
+     * @param hp The fighter's HP.
+     * @param damage The fighter's light attack damage; heavy and special attacks do double.
+     * @param time The fighter's light attack time.
+     * @param status The weapon's status effect, one of the StatusEffects constants.
+     * @param statusPower The strength of the status effect.
+     * @param heals The fighter's heals.
+     * @param fights The number of fights to run.
+     * @return The summary of all fights.
+     */
+    public SimulationResult runSeeded(String boss, int hp, int damage, int time, int status, int statusPower, int heals, int fights) {
+        Weapon weapon = new Weapon("Probe", "Light", "Heavy", "Special", new double[]{0, 0, 0, 0, 0}, 0, damage, time,
+                status, statusPower);
+        Supplier<Boss> bosses = Bosses.factory(boss);
+        Tally tally = new Tally();
+        for (int i = 0; i < fights; i++) {
+            Player player = new Player("Probe");
+            player.setHand(weapon);
+            player.setHp(hp);
+            player.setHealingTotal(heals);
+            SplittableRandom stream = RandomStreams.forFight(seed, i);
+            PlayerController controller = new AutoPlayerController(stream.split(), dodgeSkill, healBelow);
+            Combat combat = new Combat(player, bosses.get(), controller, true, stream.nextLong());
+            boolean won = combat.start();
+            tally.record(won, combat.getElapsedTime(), Math.max(0, player.getHp()));
+        }
+        return tally.toResult(boss);
+    }
+
+    /**
+     * Runs a single headless fight.
+     *
+     * @param build The build the player uses.
+     * @param boss The boss to fight.
+     * @param index The fight's position in the run, which picks its random stream.
+     * @param tally The totals to record the fight in.
+     */
+    private void fight(Build build, Boss boss, long index, Tally tally) {
+        Player player = build.newPlayer();
+        SplittableRandom stream = RandomStreams.forFight(seed, index);
+        PlayerController controller = new AutoPlayerController(stream.split(), dodgeSkill, healBelow);
+        Combat combat = new Combat(player, boss, controller, true, stream.nextLong());
+        boolean won = combat.start();
+        tally.record(won, combat.getElapsedTime(), Math.max(0, player.getHp()));
+    }
+
+    /**
+     * Running totals for a set of fights.
+     */
+    private static class Tally {
+        private long fights;
+        private long wins;
+        private double lengthSum;
+        private double lengthSquares;
+        private double hpSum;
+        private double hpSquares;
+
+        void record(boolean won, int length, int hp) {
+            fights++;
+            if (won) wins++;
+            lengthSum += length;
+            lengthSquares += (double) length * length;
+            hpSum += hp;
+            hpSquares += (double) hp * hp;
+        }
+
+        void add(Tally other) {
+            fights += other.fights;
+            wins += other.wins;
+            lengthSum += other.lengthSum;
+            lengthSquares += other.lengthSquares;
+            hpSum += other.hpSum;
+            hpSquares += other.hpSquares;
+        }
+
+        SimulationResult toResult(String boss) {
+            return new SimulationResult(boss, fights, wins, lengthSum, lengthSquares, hpSum, hpSquares);
+        }
+    }
+
+    /**
+     * Splits a range of fights in half until it is small enough to run directly.
+     * The split points depend only on the range, and the left half's totals are always added
+     * first, so the floating-point sums come out the same on any number of threads.
+     */
+    private class FightTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final Build build;
+        private final Supplier<Boss> boss;
+        private final long from; // First fight index, inclusive
+        private final long to; // Last fight index, exclusive
+
+        FightTask(Build build, Supplier<Boss> boss, long from, long to) {
+            this.build = build;
+            this.boss = boss;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                Tally tally = new Tally();
+                for (long i = from; i < to; i++) {
+                    fight(build, boss.get(), i, tally);
+                }
+                return tally;
+            }
+            long middle = from + (to - from) / 2;
+            FightTask left = new FightTask(build, boss, from, middle);
+            FightTask right = new FightTask(build, boss, middle, to);
+            right.fork();
+            Tally tally = left.compute();
+            tally.add(right.join());
+            return tally;
+        }
+    }
+
+    /**
+     * Estimates the win rate of a sample build against every boss.
+     *
+     * @param args Optional maximum fights per boss and target interval half width.
+     */
+    public static void main(String[] args) {
+        int maxFights = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+        double halfWidth = args.length > 1 ? Double.parseDouble(args[1]) : 0.005;
+
+        Weapon greatsword = new Weapon("Greatsword", "Swing", "Slice", "Lion's Claw", new double[]{2, 0.5, 0, 0, 0}, 0, 400, 4);
+        Build build = new Build("Opening", new int[]{5, 0, 0, 10, 0, 0, 0, 0}, greatsword, 2);
+        Simulator simulator = new Simulator();
+
+        System.out.println(build);
+        for (String name : Bosses.names()) {
+            System.out.println(simulator.runUntil(build, Bosses.factory(name), name, halfWidth, maxFights));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+import java.util.Arrays;
+
+/**
+ * The status effects of one fight: bleed, burn and poison on each enemy and a damage buff on
+ * the player, all coming from the player's weapon.
+ *
+ * - Bleed: each hit builds up the weapon's power in blood loss, which drains by 2 a second.
+ *   At 100 the boss bleeds for a tenth of its starting HP and the build-up starts again.
+ * - Burn: each hit sets the boss alight for 5 seconds, burning the weapon's power each second.
+ * - Poison: each hit poisons the boss for 30 seconds, dealing the weapon's power every 3 seconds.
+ * - Buff: a special attack raises the player's damage by the weapon's power in percent for 10 seconds.
+ *
+ * Every burn, poison and drain tick is a timer on a TimingWheel, so moving time on costs O(1)
+ * a tick and an effect costs nothing until it is due. Each enemy the effects can hurt is a
+ * target, numbered as in Enemies, with its build-up, affliction and timer in primitive arrays;
+ * all targets share the wheel, so thousands of burning enemies cost no more per tick than one.
+ * The effects only work out the damage, which the caller takes off the target. Times are in
+ * the caller's ticks, whatever length of time those are: Combat counts in seconds,
+ * RealTimeCombat in sixtieths of a second.
+ */
+public class StatusEffects {
+    public static final int NONE = 0; // Status effects a weapon can carry
+    public static final int BLEED = 1;
+    public static final int BURN = 2;
+    public static final int POISON = 3;
+    public static final int BUFF = 4;
+
+    private static final String[] NAMES = {"none", "bleed", "burn", "poison", "buff"};
+
+    // Tuning
+    private static final int BLEED_THRESHOLD = 100; // Build-up at which the boss bleeds
+    private static final int BLEED_DIVISOR = 10; // Fraction of the boss's starting HP a bleed takes
+    private static final int BLEED_DRAIN = 2; // Build-up lost each second
+    private static final int BUFF_SECONDS = 10; // How long a special attack's buff lasts
+    private static final int BURN_SECONDS = 5; // How long a hit sets the boss alight
+    private static final int POISON_SECONDS = 30; // How long a hit poisons the boss
+    private static final int POISON_PERIOD = 3; // Seconds between poison ticks
+
+    private int status; // The weapon's status effect
+    private int power; // The weapon's status power
+    private int ticksPerSecond; // Length of a second in the caller's ticks
+    private TimingWheel wheel; // Pending burn, poison and drain ticks, valued by target
+
+    private int[] buildup; // Blood loss built up on each target
+    private long[] afflictedUntil; // Tick each target stops burning or is no longer poisoned
+    private int[] timer; // Each target's drain, burn or poison timer on the wheel, or -1
+    private long buffUntil; // Tick the player's buff wears off
+    private int lastTarget; // Target of the effect poll returned last
+    private int lastDamage; // Damage dealt by the effect poll returned last
+    private long lastTime; // Tick of the effect poll returned last
+
+    /**
+     * Creates the status effects of a fight.
+     *
+     * @param weapon The player's weapon, whose status effect and power apply.
+     * @param targets The number of enemies the effects can hurt.
+     * @param ticksPerSecond Ticks in a second of combat time, as the caller counts time.
+     */
+    public StatusEffects(Weapon weapon, int targets, int ticksPerSecond) {
+        this.status = weapon.getStatus();
+        this.power = weapon.getStatusPower();
+        this.ticksPerSecond = ticksPerSecond;
+        this.wheel = new TimingWheel(targets);
+        this.buildup = new int[targets];
+        this.afflictedUntil = new long[targets];
+        this.timer = new int[targets];
+        Arrays.fill(timer, -1);
+    }
+
+    /**
+     * Gets the name of a status effect.
+     *
+     * @param status One of the status effect constants.
+     * @return The effect's name, e.g. "bleed".
+     */
+    public static String name(int status) {
+        return status >= 0 && status < NAMES.length ? NAMES[status] : "unknown";
+    }
+
+    /**
+     * Gets the status effect of the player's weapon.
+     *
+     * @return One of the status effect constants.
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Applies the weapon's status effect for a hit on an enemy.
+     * Any extra damage is for the caller to take off the target.
+     *
+     * @param target The enemy hit.
+     * @param originalHp The enemy's HP at the start of the fight, which sets a bleed's damage.
+     * @param attackType The attack used: 1 light, 2 heavy, 3 special.
+     * @param damage The damage the attack dealt.
+     * @param now The tick the hit landed.
+     * @return Extra damage dealt to the enemy straight away by a bleed or the buff.
+     */
+    public int hit(int target, int originalHp, int attackType, int damage, long now) {
+        int extra = now < buffUntil ? damage * power / 100 : 0;
+        switch (status) {
+            case BLEED:
+                buildup[target] += power;
+                if (buildup[target] >= BLEED_THRESHOLD) {
+                    buildup[target] = 0;
+                    extra += originalHp / BLEED_DIVISOR;
+                } else if (timer[target] < 0) {
+                    timer[target] = wheel.schedule(now + ticksPerSecond, target);
+                }
+                break;
+            case BURN:
+            case POISON:
+                afflictedUntil[target] = now + (long) lastingSeconds(status) * ticksPerSecond;
+                if (timer[target] < 0) timer[target] = wheel.schedule(now + period(), target);
+                break;
+            case BUFF:
+                if (attackType == 3) buffUntil = now + (long) BUFF_SECONDS * ticksPerSecond;
+                break;
+        }
+        return extra;
+    }
+
+    /**
+     * Runs the effects due by a tick until one hurts an enemy.
+     * Call repeatedly until it returns -1 to run every effect due by then.
+     *
+     * @param until The tick to run the effects to.
+     * @return The effect that hurt an enemy, whose target and damage getLastTarget and getLastDamage give,
+     *         or -1 if none are left.
+     */
+    public int poll(long until) {
+        int target;
+        while ((target = wheel.poll(until)) >= 0) {
+            long now = wheel.getNow();
+            timer[target] = -1;
+            if (status == BLEED) {
+                buildup[target] = Math.max(0, buildup[target] - BLEED_DRAIN);
+                if (buildup[target] > 0) timer[target] = wheel.schedule(now + ticksPerSecond, target);
+                continue;
+            }
+            // A burn or poison tick, followed by another while the effect lasts
+            if (now + period() <= afflictedUntil[target]) timer[target] = wheel.schedule(now + period(), target);
+            lastTarget = target;
+            lastDamage = power;
+            lastTime = now;
+            return status;
+        }
+        return -1;
+    }
+
+    /**
+     * Stops every effect on an enemy, such as one that has been slain.
+     *
+     * @param target The enemy.
+     */
+    public void remove(int target) {
+        if (timer[target] >= 0) {
+            wheel.cancel(timer[target]);
+            timer[target] = -1;
+        }
+        buildup[target] = 0;
+        afflictedUntil[target] = 0;
+    }
+
+    /**
+     * Gets the target of the effect poll returned last.
+     *
+     * @return The enemy hurt.
+     */
+    public int getLastTarget() {
+        return lastTarget;
+    }
+
+    /**
+     * Gets the damage of the effect poll returned last.
+     *
+     * @return The damage dealt.
+     */
+    public int getLastDamage() {
+        return lastDamage;
+    }
+
+    /**
+     * Gets the tick of the effect poll returned last.
+     *
+     * @return The tick the effect happened.
+     */
+    public long getLastTime() {
+        return lastTime;
+    }
+
+    /**
+     * Checks whether any effect is still to happen.
+     *
+     * @return True if a burn, poison or bleed drain tick is scheduled.
+     */
+    public boolean isActive() {
+        return !wheel.isEmpty();
+    }
+
+    /**
+     * Gets the ticks between burn or poison ticks.
+     */
+    private long period() {
+        return (long) periodSeconds(status) * ticksPerSecond;
+    }
+
+    /**
+     * Gets the seconds between ticks of a burn or poison.
+     *
+     * @param status BURN or POISON.
+     * @return The seconds from one tick to the next.
+     */
+    private static int periodSeconds(int status) {
+        return status == POISON ? POISON_PERIOD : 1;
+    }
+
+    /**
+     * Gets how long a hit burns or poisons for.
+     *
+     * @param status BURN or POISON.
+     * @return The seconds the effect lasts after a hit.
+     */
+    private static int lastingSeconds(int status) {
+        return status == POISON ? POISON_SECONDS : BURN_SECONDS;
+    }
+}
@@ -0,0 +1,208 @@
+import java.util.Arrays;
+
+/**
+ * A hierarchical timing wheel of timers with integer deadlines, for status effects.
+ *
+ * The wheel has four levels of 64 slots. A timer due within 64 ticks sits in the level 0 slot
+ * for its exact tick; one due within 64^2 ticks sits in the level 1 slot for its block of 64
+ * ticks, and so on. Every 64 ticks the next level 1 slot is emptied back into level 0, every
+ * 64^2 ticks the next level 2 slot into level 1, and so on, so each timer is moved at most
+ * once per level. Scheduling, cancelling and moving the clock on by a tick are all O(1) however
+ * many timers are running, where a heap would cost O(log n) and a scan O(n).
+ *
+ * Timers are kept in primitive arrays as doubly linked lists, one per slot, and are named by
+ * their index. Freed timers are reused, so a warmed-up wheel never allocates. Timers due on the
+ * same tick fire in no particular order, but always the same order for the same schedule.
+ */
+public class TimingWheel {
+    private static final int SLOT_BITS = 6; // Slots per level, as a power of two
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+    private static final long SPAN = 1L << (SLOT_BITS * LEVELS); // Furthest ahead a timer can be placed exactly
+    private static final int NIL = -1; // End of a list
+
+    private int[] heads = new int[LEVELS * SLOTS]; // First timer in each slot
+    private long[] deadlines; // Tick each timer is due
+    private int[] data; // What each timer is for, given back when it fires
+    private int[] next; // Next timer in the same slot, or in the free list
+    private int[] prev; // Previous timer in the same slot
+    private int[] slotOf; // Slot each timer is in, or NIL when the timer is free
+    private int free = NIL; // First free timer
+    private int used; // Timers ever handed out; the rest of the arrays is untouched
+    private int size; // Timers scheduled
+    private long now; // The wheel's current tick
+
+    /**
+     * Creates an empty wheel at tick 0.
+     *
+     * @param capacity The number of timers to make room for; the wheel grows beyond it when needed.
+     */
+    public TimingWheel(int capacity) {
+        capacity = Math.max(4, capacity);
+        deadlines = new long[capacity];
+        data = new int[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        slotOf = new int[capacity];
+        Arrays.fill(heads, NIL);
+    }
+
+    /**
+     * Schedules a timer.
+     *
+     * @param deadline The tick the timer is due; a tick already passed means the next one polled.
+     * @param value What the timer is for, given back by poll.
+     * @return The timer, for cancelling it or changing its value.
+     */
+    public int schedule(long deadline, int value) {
+        int timer = free;
+        if (timer != NIL) {
+            free = next[timer];
+        } else {
+            if (used == deadlines.length) grow();
+            timer = used++;
+        }
+        deadlines[timer] = Math.max(deadline, now);
+        data[timer] = value;
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Stops a timer before it fires. A timer's number is reused once it fires or is cancelled,
+     * so callers must forget it then.
+     *
+     * @param timer The timer, as returned by schedule.
+     * @return True if the timer was scheduled; false if it had already fired or been cancelled.
+     */
+    public boolean cancel(int timer) {
+        if (timer < 0 || timer >= used || slotOf[timer] == NIL) return false;
+        unlink(timer);
+        release(timer);
+        return true;
+    }
+
+    /**
+     * Changes what a scheduled timer is for, e.g. when the entity it belongs to moves.
+     *
+     * @param timer The timer, as returned by schedule.
+     * @param value The new value.
+     */
+    public void setData(int timer, int value) {
+        data[timer] = value;
+    }
+
+    /**
+     * Removes and returns the next timer due at or before a tick, moving the clock up to it.
+     * Call repeatedly until it returns -1 to fire every timer due by then.
+     *
+     * @param until The tick to run the clock to.
+     * @return The value of a timer due by then, or -1 if none are left.
+     */
+    public int poll(long until) {
+        while (true) {
+            int slot = (int) now & (SLOTS - 1);
+            int timer = heads[slot];
+            if (timer != NIL) {
+                unlink(timer);
+                int value = data[timer];
+                release(timer);
+                return value;
+            }
+            if (now >= until) return -1;
+            if (size == 0) {
+                now = until; // Nothing to move between levels, so skip straight there
+                return -1;
+            }
+            advance();
+        }
+    }
+
+    /**
+     * Gets the tick of the timer polled last.
+     *
+     * @return The wheel's current tick.
+     */
+    public long getNow() {
+        return now;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Moves the clock on one tick, emptying the higher-level slots whose block of ticks starts now.
+     */
+    private void advance() {
+        now++;
+        for (int level = 1; level < LEVELS; level++) {
+            long shift = (long) SLOT_BITS * level;
+            if ((now & ((1L << shift) - 1)) != 0) break;
+            int slot = level * SLOTS + ((int) (now >>> shift) & (SLOTS - 1));
+            int timer = heads[slot];
+            heads[slot] = NIL;
+            while (timer != NIL) {
+                int following = next[timer];
+                insert(timer);
+                timer = following;
+            }
+        }
+    }
+
+    /**
+     * Puts a timer in the slot for its deadline.
+     */
+    private void insert(int timer) {
+        long delay = Math.min(deadlines[timer] - now, SPAN - 1);
+        int level = 0;
+        while (delay >= 1L << (SLOT_BITS * (level + 1))) level++;
+        // A timer beyond the top level waits in the top level's furthest slot and is placed again from there
+        long tick = level == LEVELS - 1 ? now + delay : deadlines[timer];
+        int slot = level * SLOTS + ((int) (tick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+        int head = heads[slot];
+        next[timer] = head;
+        prev[timer] = NIL;
+        if (head != NIL) prev[head] = timer;
+        heads[slot] = timer;
+        slotOf[timer] = slot;
+    }
+
+    /**
+     * Takes a timer out of its slot's list.
+     */
+    private void unlink(int timer) {
+        int before = prev[timer];
+        int after = next[timer];
+        if (before == NIL) heads[slotOf[timer]] = after;
+        else next[before] = after;
+        if (after != NIL) prev[after] = before;
+    }
+
+    /**
+     * Returns a timer taken out of its slot to the free list.
+     */
+    private void release(int timer) {
+        slotOf[timer] = NIL;
+        next[timer] = free;
+        free = timer;
+        size--;
+    }
+
+    /**
+     * Doubles the room for timers.
+     */
+    private void grow() {
+        int capacity = deadlines.length * 2;
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        data = Arrays.copyOf(data, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        slotOf = Arrays.copyOf(slotOf, capacity);
+    }
+}
@@ -0,0 +1,196 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Plays every boss against every weapon on every weapon wheel with a set of stat builds,
+ * and writes one CSV row per match-up with its win rate and median fight length.
+ *
+ * Match-ups are generated as they are needed and run on one thread per core. Only a couple
+ * of match-ups per thread are in flight at once, and each row is written as soon as its
+ * fights finish, so memory use does not grow with the size of the matrix. The job owns its
+ * threads: it returns only once every match-up is written or the first failure has stopped
+ * the rest. Fight i of every match-up draws from the same random stream (see RandomStreams),
+ * so rows are comparable with each other and the same on any number of threads.
+ */
+public class Tournament {
+    private static final int[] LEVELS = {0, 30, 90, 180}; // Stat points spent by each build
+    private static final double[] VIGOR = {0, 0.5}; // Share of those points put into Vigor
+    private static final String HEADER = "boss,wheel,weapon,level,vigor_share,vigor,strength,dexterity,intelligence,faith,arcane,"
+            + "hp,light_damage,fights,wins,win_rate,median_length";
+
+    private int fights; // Fights per match-up
+    private int threads; // Threads running match-ups
+    private double dodgeSkill; // Dodge accuracy of the automated player
+    private double healBelow; // HP fraction at which the automated player heals
+    private long seed; // Root seed of every fight's random stream
+
+    /**
+     * Creates a tournament with the simulator's default automated player on every core.
+     *
+     * @param fights The number of fights per match-up.
+     */
+    public Tournament(int fights) {
+        this.fights = fights;
+        this.threads = Runtime.getRuntime().availableProcessors();
+        this.dodgeSkill = 0.8;
+        this.healBelow = 0.3;
+    }
+
+    /**
+     * One row of the matrix: a boss, a weapon and a build.
+     */
+    private static class MatchUp {
+        private final String boss; // The boss's name
+        private final int wheel; // The wheel the weapon comes from
+        private final int weapon; // The weapon's position on its wheel
+        private final int level; // Stat points spent
+        private final double vigorShare; // Share of the points in Vigor
+
+        MatchUp(String boss, int wheel, int weapon, int level, double vigorShare) {
+            this.boss = boss;
+            this.wheel = wheel;
+            this.weapon = weapon;
+            this.level = level;
+            this.vigorShare = vigorShare;
+        }
+    }
+
+    /**
+     * Runs the whole matrix and writes it to a CSV file.
+     *
+     * @param output The file to write.
+     * @return The number of rows written.
+     * @throws IOException If the file cannot be written.
+     * @throws InterruptedException If the job is interrupted, after stopping its threads.
+     * @throws ExecutionException If a match-up fails, after stopping the others.
+     */
+    public long run(Path output) throws IOException, InterruptedException, ExecutionException {
+        List<String> bosses = Bosses.names();
+        List<int[]> weapons = new ArrayList<>(); // Wheel and position of every weapon
+        for (int wheel = 0; wheel < WeaponWheels.COUNT; wheel++) {
+            for (int i = 0; i < WeaponWheels.get(wheel).length; i++) weapons.add(new int[]{wheel, i});
+        }
+        int perBoss = weapons.size() * LEVELS.length * VIGOR.length;
+        long total = (long) bosses.size() * perBoss;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        ExecutorCompletionService<String> rows = new ExecutorCompletionService<>(pool);
+        try (BufferedWriter writer = Files.newBufferedWriter(output)) {
+            writer.write(HEADER);
+            writer.newLine();
+
+            long submitted = 0;
+            long written = 0;
+            while (written < total) {
+                // Keep every thread busy with one match-up queued behind it
+                while (submitted < total && submitted - written < 2L * threads) {
+                    long index = submitted++;
+                    int rest = (int) (index % perBoss);
+                    int vigor = rest % VIGOR.length;
+                    rest /= VIGOR.length;
+                    int level = rest % LEVELS.length;
+                    rest /= LEVELS.length;
+                    int[] weapon = weapons.get(rest);
+                    MatchUp matchUp = new MatchUp(bosses.get((int) (index / perBoss)), weapon[0], weapon[1],
+                            LEVELS[level], VIGOR[vigor]);
+                    rows.submit(() -> play(matchUp));
+                }
+                writer.write(rows.take().get());
+                writer.newLine();
+                written++;
+            }
+            return written;
+        } finally {
+            pool.shutdownNow();
+            pool.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Plays one match-up's fights and formats its row.
+     */
+    private String play(MatchUp matchUp) {
+        Weapon weapon = WeaponWheels.get(matchUp.wheel)[matchUp.weapon];
+        int[] stats = new int[8];
+        stats[0] = Math.min(Build.MAX_STAT, (int) Math.round(matchUp.level * matchUp.vigorShare));
+        stats = Build.spendOnDamage(stats, weapon, matchUp.level - stats[0]);
+        Build build = new Build("Tournament", stats, weapon, 2);
+        Supplier<Boss> boss = Bosses.factory(matchUp.boss);
+
+        int wins = 0;
+        int[] lengths = new int[fights];
+        for (int i = 0; i < fights; i++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Tournament stopped");
+            }
+            Player player = build.newPlayer();
+            SplittableRandom stream = RandomStreams.forFight(seed, i);
+            PlayerController controller = new AutoPlayerController(stream.split(), dodgeSkill, healBelow);
+            Combat combat = new Combat(player, boss.get(), controller, true, stream.nextLong());
+            if (combat.start()) wins++;
+            lengths[i] = combat.getElapsedTime();
+        }
+        Arrays.sort(lengths);
+        double median = fights % 2 == 1 ? lengths[fights / 2] : (lengths[fights / 2 - 1] + lengths[fights / 2]) / 2.0;
+
+        Player player = build.newPlayer();
+        StringBuilder row = new StringBuilder();
+        row.append(matchUp.boss).append(',').append(matchUp.wheel).append(',')
+                .append(quote(weapon.getName())).append(',')
+                .append(matchUp.level).append(',').append(matchUp.vigorShare);
+        for (int i = 0; i < 8; i++) {
+            if (i == 1 || i == 2) continue; // Mind and Endurance never change a fight
+            row.append(',').append(stats[i]);
+        }
+        row.append(',').append(player.getHp()).append(',').append(player.getAttackDamage(1))
+                .append(',').append(fights).append(',').append(wins)
+                .append(',').append(String.format(Locale.ROOT, "%.4f", (double) wins / fights))
+                .append(',').append(median);
+        return row.toString();
+    }
+
+    /**
+     * Quotes a CSV field as RFC 4180 does: fields with commas, quotes or line breaks are put in
+     * double quotes, with any quotes inside doubled.
+     *
+     * @param field The field.
+     * @return The field as it goes in a row.
+     */
+    private static String quote(String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Writes the tournament matrix.
+     *
+     * @param args Optional fights per match-up, at least 1, and output file.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        int fights = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        if (fights < 1) {
+            throw new IllegalArgumentException("Each match-up needs at least one fight, got " + fights);
+        }
+        Path output = Paths.get(args.length > 1 ? args[1] : "tournament.csv");
+
+        long start = System.nanoTime();
+        long rows = new Tournament(fights).run(output);
+        System.out.printf("Wrote %d match-ups to %s in %dms%n", rows, output, (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * A persistent undo/redo history of immutable states.
+ *
+ * A history never changes: commit, undo and redo each return a new history and leave the old
+ * one as it was. The undo and redo stacks are linked lists that share their tails, so each
+ * operation is O(1) and takes one small node however long the history is, and keeping an old
+ * history around costs nothing. That makes a history a cheap branch point too: a search can
+ * commit different moves to the same history and throw away the branches it does not take.
+ *
+ * @param <T> The states, which must not change once committed.
+ */
+public final class UndoHistory<T> {
+    private final T current; // The state now
+    private final Node<T> undo; // States before it, most recent first
+    private final Node<T> redo; // States undone, most recently undone first
+    private final int undoCount; // Length of the undo stack
+    private final int redoCount; // Length of the redo stack
+
+    /**
+     * Creates a history with only a starting state.
+     *
+     * @param start The starting state.
+     */
+    public UndoHistory(T start) {
+        this(start, null, 0, null, 0);
+    }
+
+    private UndoHistory(T current, Node<T> undo, int undoCount, Node<T> redo, int redoCount) {
+        this.current = current;
+        this.undo = undo;
+        this.undoCount = undoCount;
+        this.redo = redo;
+        this.redoCount = redoCount;
+    }
+
+    /**
+     * Moves to a new state. The current state can be undone back to, and anything undone can no longer be redone.
+     *
+     * @param next The new state.
+     * @return The history with the new state current.
+     */
+    public UndoHistory<T> commit(T next) {
+        return new UndoHistory<>(next, new Node<>(current, undo), undoCount + 1, null, 0);
+    }
+
+    /**
+     * Goes back to the state before the current one.
+     *
+     * @return The history with the previous state current.
+     * @throws IllegalStateException If there is nothing to undo.
+     */
+    public UndoHistory<T> undo() {
+        if (undo == null) throw new IllegalStateException("Nothing to undo");
+        return new UndoHistory<>(undo.state, undo.next, undoCount - 1, new Node<>(current, redo), redoCount + 1);
+    }
+
+    /**
+     * Goes forward to the state last undone.
+     *
+     * @return The history with the redone state current.
+     * @throws IllegalStateException If there is nothing to redo.
+     */
+    public UndoHistory<T> redo() {
+        if (redo == null) throw new IllegalStateException("Nothing to redo");
+        return new UndoHistory<>(redo.state, new Node<>(current, undo), undoCount + 1, redo.next, redoCount - 1);
+    }
+
+    public T current() {
+        return current;
+    }
+
+    public boolean canUndo() {
+        return undo != null;
+    }
+
+    public boolean canRedo() {
+        return redo != null;
+    }
+
+    public int getUndoCount() {
+        return undoCount;
+    }
+
+    public int getRedoCount() {
+        return redoCount;
+    }
+
+    /**
+     * One entry of an undo or redo stack.
+     */
+    private static final class Node<T> {
+        private final T state; // The state
+        private final Node<T> next; // The entry below it
+
+        Node(T state, Node<T> next) {
+            this.state = state;
+            this.next = next;
+        }
+    }
+}
@@ -3,6 +3,9 @@
  * The weapon has attributes such as damage, scaling, and various attack types.
  */
 public class Weapon {
+    private static final int CACHE_SIZE = 16; // Entries in the damage cache, a power of two
+    private static final int STAT_BITS = 12; // Bits per fight stat in a cache key
+
     private String name;
     private String light; // Light attack name
     private String heavy; // Heavy attack name
@@ -13,7 +16,24 @@ public class Weapon {
     private int upgradePrice; // Cost to upgrade the weapon
     private int level; // Current level of the weapon
     private int time; // Time needed for an attack
+    private int status; // Status effect of the weapon's hits, one of the StatusEffects constants
+    private int statusPower; // Strength of the status effect, whose meaning depends on the effect
     private Player player; // Player using the weapon (if applicable)
+    private DamageCache[] damageCache = new DamageCache[CACHE_SIZE]; // Resolved damage by stats key, replaced whenever the weapon changes
+
+    /**
+     * Damage resolved for one set of fight stats. Immutable, so one read of a slot
+     * is safe even when several threads share the weapon.
+     */
+    private static final class DamageCache {
+        private final long key; // Strength, Dexterity, Intelligence, Faith and Arcane packed by statsKey
+        private final int damage; // The resolved damage
+
+        DamageCache(long key, int damage) {
+            this.key = key;
+            this.damage = damage;
+        }
+    }
 
     /**
      * Creates a default weapon with initial values.
@@ -47,6 +67,39 @@ public class Weapon {
         this.upgradePrice = 10;
     }
 
+    /**
+     * Creates a weapon whose hits carry a status effect.
+     * 
+     * @param name The name of the weapon.
+     * @param light The name of the light attack.
+     * @param heavy The name of the heavy attack.
+     * @param special The name of the special attack.
+     * @param scaling The scaling factors for the weapon.
+     * @param price The price of the weapon.
+     * @param damage The base damage of the weapon.
+     * @param time The time needed for an attack.
+     * @param status The status effect, one of the StatusEffects constants.
+     * @param statusPower The strength of the status effect.
+     */
+    public Weapon(String name, String light, String heavy, String special, double[] scaling, int price, int damage, int time,
+                  int status, int statusPower) {
+        this(name, light, heavy, special, scaling, price, damage, time);
+        this.status = status;
+        this.statusPower = statusPower;
+    }
+
+    /**
+     * Creates an independent copy of this weapon, including its upgrade level.
+     * 
+     * @return A new weapon with the same attributes.
+     */
+    public Weapon copy() {
+        Weapon copy = new Weapon(name, light, heavy, special, scaling.clone(), price, damage, time, status, statusPower);
+        copy.level = level;
+        copy.upgradePrice = upgradePrice;
+        return copy;
+    }
+
     public String getName() {
         return name;
     }
@@ -63,8 +116,13 @@ public class Weapon {
         return special;
     }
 
+    /**
+     * Gets the scaling factors. The array is a copy, so changing it does not change the weapon.
+     * 
+     * @return The scaling factors for Strength, Dexterity, Intelligence, Faith and Arcane.
+     */
     public double[] getScaling() {
-        return scaling;
+        return scaling.clone();
     }
 
     public int getPrice() {
@@ -77,14 +135,50 @@ public class Weapon {
 
     /**
      * Calculates the new damage based on the weapon's scaling and the player's stats.
+     * The result is cached per stat vector until the weapon is upgraded or its damage changes.
+     * The cache keeps several stat vectors, so one weapon can serve many builds at once.
      * 
      * @param player The player using the weapon.
      * @return The calculated damage after applying scaling factors.
      */
     public int getNewDamage(Player player) {
+        long key = statsKey(player);
+        if (key < 0) return calculateDamage(player.getFightStats()); // Stats too large to key
+        DamageCache[] cache = damageCache;
+        int slot = (int) (key ^ key >>> 29) & (CACHE_SIZE - 1);
+        DamageCache entry = cache[slot];
+        if (entry != null && entry.key == key) {
+            return entry.damage;
+        }
+        int newDamage = calculateDamage(player.getFightStats());
+        cache[slot] = new DamageCache(key, newDamage);
+        return newDamage;
+    }
+
+    /**
+     * Packs a player's fight stats into one cache key, STAT_BITS bits per stat.
+     * 
+     * @param player The player.
+     * @return The key, or -1 if a stat is negative or does not fit.
+     */
+    private static long statsKey(Player player) {
+        long key = 0;
+        for (int i = 3; i < 8; i++) {
+            int stat = player.getStats(i);
+            if (stat < 0 || stat >= 1 << STAT_BITS) return -1;
+            key = key << STAT_BITS | stat;
+        }
+        return key;
+    }
+
+    /**
+     * Calculates damage from the scaling dot product over the given fight stats.
+     * 
+     * @param stats Strength, Dexterity, Intelligence, Faith and Arcane.
+     * @return The calculated damage after applying scaling factors.
+     */
+    private int calculateDamage(int[] stats) {
         int newDamage;
-        double[] scaling = this.getScaling();
-        int[] stats = player.getFightStats();
         double sum = 0.0;
         
         for (int i = 0; i < scaling.length; i++) {
@@ -98,6 +192,7 @@ public class Weapon {
 
     public void setDamage(int damage) {
         this.damage = damage;
+        this.damageCache = new DamageCache[CACHE_SIZE];
     }
 
     public int getUpgradePrice() {
@@ -120,6 +215,14 @@ public class Weapon {
         return time;
     }
 
+    public int getStatus() {
+        return status;
+    }
+
+    public int getStatusPower() {
+        return statusPower;
+    }
+
     /**
      * Upgrades the weapon, increasing its damage and scaling factors.
      * The weapon's level and upgrade price are updated accordingly.
@@ -133,6 +236,7 @@ public class Weapon {
             level++;
             upgradePrice += 25;
             name = name + " +1";
+            damageCache = new DamageCache[CACHE_SIZE];
         } else if (level == 1) {
             damage += 50;
             for (int i = 0; i < 5; i++) {
@@ -141,6 +245,7 @@ public class Weapon {
             level++;
             upgradePrice += 50;
             name = name + " +2";
+            damageCache = new DamageCache[CACHE_SIZE];
         } else if (level == 2) {
             damage += 100;
             for (int i = 0; i < 5; i++) {
@@ -149,6 +254,7 @@ public class Weapon {
             level++;
             upgradePrice += 100;
             name = name + " +3";
+            damageCache = new DamageCache[CACHE_SIZE];
         } else if (level == 3) {
             damage += 200;
             for (int i = 0; i < 5; i++) {
@@ -157,8 +263,9 @@ public class Weapon {
             level++;
             upgradePrice = 0; // No further upgrades available
             name = name + " +4";
+            damageCache = new DamageCache[CACHE_SIZE];
         } else {
-            System.out.println("Maximum Level already achieved.\n");
+            Console.get().println("Maximum Level already achieved.\n");
         }
     }
 }
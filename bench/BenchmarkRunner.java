@@ -0,0 +1,31 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the combat benchmarks with the gc profiler attached, so every result comes with
+ * its allocation rate and bytes allocated per operation.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Runs all benchmarks, or only those matching the given regular expressions.
+     *
+     * @param args Optional benchmark name filters, e.g. "CombatBenchmark".
+     * @throws RunnerException If JMH fails to run.
+     */
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder().addProfiler(GCProfiler.class);
+        if (args.length == 0) {
+            options.include("bench\\..*Benchmark");
+        }
+        for (String pattern : args) {
+            options.include(pattern);
+        }
+        new Runner(options.build()).run();
+    }
+}
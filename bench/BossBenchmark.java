@@ -0,0 +1,52 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the per-combo boss calls: combo selection for both phases and the phase check.
+ * The boss stays at full health, so checkPhase measures the common case that prints nothing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BossBenchmark {
+    @Param({"Margit", "Malenia", "Radagon"})
+    public String bossName;
+
+    private Object boss;
+
+    @Setup
+    public void setup() throws Throwable {
+        boss = Game.boss(bossName);
+    }
+
+    @Benchmark
+    public Object chooseCombo1() throws Throwable {
+        return (Object) Game.CHOOSE_COMBO_1.invokeExact(boss);
+    }
+
+    @Benchmark
+    public Object chooseCombo2() throws Throwable {
+        return (Object) Game.CHOOSE_COMBO_2.invokeExact(boss);
+    }
+
+    @Benchmark
+    public boolean checkPhase() throws Throwable {
+        return (boolean) Game.CHECK_PHASE.invokeExact(boss);
+    }
+}
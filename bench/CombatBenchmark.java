@@ -0,0 +1,70 @@
+package bench;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a whole headless fight, i.e. the Combat.bossTurn loop from the first combo to the
+ * last hit, against every boss. The turns counter reports player decisions per second, and
+ * the gc profiler's alloc.rate.norm divided by turns/fights gives bytes allocated per turn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CombatBenchmark {
+    @Param({"Margit", "Godrick", "RedWolf", "Rennala", "Serpent", "Radahn", "Mohg", "GoldenGodfrey",
+            "Morgott", "FireGiant", "GodskinDuo", "BeastClergyman", "Gideon", "Godfrey", "Malenia", "Radagon"})
+    public String bossName;
+
+    private Object weapon;
+    private SplittableRandom random;
+    private Object player;
+    private Object boss;
+
+    /**
+     * Counts player decisions so JMH reports them as a secondary throughput.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Turns {
+        public long turns;
+    }
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws Throwable {
+        weapon = Game.NEW_WEAPON.invoke("Greatsword", "Swing", "Slice", "Lion's Claw", new double[]{2, 0.5, 0, 0, 0}, 0, 400, 4);
+        random = new SplittableRandom(42);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupFight() throws Throwable {
+        player = Game.player(new int[]{5, 0, 0, 10, 0, 0, 0, 0}, weapon);
+        boss = Game.boss(bossName);
+    }
+
+    @Benchmark
+    public boolean fight(Turns turns) throws Throwable {
+        Object controller = Game.NEW_CONTROLLER.invoke(random, 0.8, 0.3);
+        Object combat = Game.NEW_COMBAT.invoke(player, boss, controller, true);
+        boolean won = (boolean) Game.START.invokeExact(combat);
+        turns.turns += (int) Game.GET_DECISIONS.invokeExact(combat);
+        return won;
+    }
+}
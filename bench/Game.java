@@ -0,0 +1,97 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.random.RandomGenerator;
+
+/**
+ * Bridge from the benchmark package to the game classes.
+ * JMH will not generate benchmarks in the default package, and named packages cannot
+ * import default-package classes, so the game is reached through constant method handles.
+ * The JIT inlines static final handles, so measured calls cost the same as direct calls.
+ */
+final class Game {
+    static final MethodHandle NEW_WEAPON;
+    static final MethodHandle NEW_PLAYER;
+    static final MethodHandle SET_STATS;
+    static final MethodHandle SET_HAND;
+    static final MethodHandle CREATE_BOSS;
+    static final MethodHandle NEW_CONTROLLER;
+    static final MethodHandle NEW_COMBAT;
+    static final MethodHandle GET_NEW_DAMAGE;
+    static final MethodHandle GET_FIGHT_STATS;
+    static final MethodHandle CHOOSE_COMBO_1;
+    static final MethodHandle CHOOSE_COMBO_2;
+    static final MethodHandle CHECK_PHASE;
+    static final MethodHandle START;
+    static final MethodHandle GET_DECISIONS;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> weapon = Class.forName("Weapon");
+            Class<?> player = Class.forName("Player");
+            Class<?> boss = Class.forName("Boss");
+            Class<?> enemies = Class.forName("Enemies");
+            Class<?> combo = Class.forName("Combo");
+            Class<?> combat = Class.forName("Combat");
+            Class<?> controller = Class.forName("PlayerController");
+            Class<?> autoController = Class.forName("AutoPlayerController");
+
+            NEW_WEAPON = lookup.findConstructor(weapon, MethodType.methodType(void.class,
+                    String.class, String.class, String.class, String.class, double[].class, int.class, int.class, int.class));
+            NEW_PLAYER = lookup.findConstructor(player, MethodType.methodType(void.class, String.class));
+            SET_STATS = lookup.findVirtual(player, "setStats", MethodType.methodType(void.class, int[].class));
+            SET_HAND = lookup.findVirtual(player, "setHand", MethodType.methodType(void.class, weapon));
+            CREATE_BOSS = lookup.findStatic(Class.forName("Bosses"), "create", MethodType.methodType(boss, String.class));
+            NEW_CONTROLLER = lookup.findConstructor(autoController, MethodType.methodType(void.class,
+                    RandomGenerator.class, double.class, double.class));
+            NEW_COMBAT = lookup.findConstructor(combat, MethodType.methodType(void.class, player, enemies, controller, boolean.class));
+
+            GET_NEW_DAMAGE = erase(lookup.findVirtual(weapon, "getNewDamage", MethodType.methodType(int.class, player)));
+            GET_FIGHT_STATS = erase(lookup.findVirtual(player, "getFightStats", MethodType.methodType(int[].class)));
+            CHOOSE_COMBO_1 = erase(lookup.findVirtual(boss, "chooseCombo1", MethodType.methodType(combo)));
+            CHOOSE_COMBO_2 = erase(lookup.findVirtual(boss, "chooseCombo2", MethodType.methodType(combo)));
+            CHECK_PHASE = erase(lookup.findVirtual(boss, "checkPhase", MethodType.methodType(boolean.class)));
+            START = erase(lookup.findVirtual(combat, "start", MethodType.methodType(boolean.class)));
+            GET_DECISIONS = erase(lookup.findVirtual(combat, "getDecisions", MethodType.methodType(int.class)));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Game() {
+    }
+
+    /**
+     * Replaces every game type in a handle's signature with Object so it can be called with invokeExact.
+     */
+    private static MethodHandle erase(MethodHandle handle) {
+        return handle.asType(handle.type().erase());
+    }
+
+    /**
+     * Creates a player with the given stats holding the given weapon.
+     */
+    static Object player(int[] stats, Object weapon) throws Throwable {
+        Object player = NEW_PLAYER.invoke("Bench");
+        SET_STATS.invoke(player, stats);
+        SET_HAND.invoke(player, weapon);
+        return player;
+    }
+
+    /**
+     * Creates the Winged Scythe from the opening weapon wheel, which scales with three stats.
+     */
+    static Object scythe() throws Throwable {
+        return NEW_WEAPON.invoke("Winged Scythe", "Scythe", "Sweep", "Death Scythe", new double[]{0, 0, 1, 1, 1}, 0, 300, 5);
+    }
+
+    /**
+     * Creates a fresh boss by name.
+     */
+    static Object boss(String name) throws Throwable {
+        return CREATE_BOSS.invoke(name);
+    }
+}
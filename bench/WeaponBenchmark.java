@@ -0,0 +1,44 @@
+package bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks damage resolution: Weapon.getNewDamage and the Player.getFightStats copy it relies on.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class WeaponBenchmark {
+    private Object player;
+    private Object weapon;
+
+    @Setup
+    public void setup() throws Throwable {
+        weapon = Game.scythe();
+        player = Game.player(new int[]{20, 10, 10, 15, 15, 30, 30, 10}, weapon);
+    }
+
+    @Benchmark
+    public int getNewDamage() throws Throwable {
+        return (int) Game.GET_NEW_DAMAGE.invokeExact(weapon, player);
+    }
+
+    @Benchmark
+    public Object getFightStats() throws Throwable {
+        return (Object) Game.GET_FIGHT_STATS.invokeExact(player);
+    }
+}